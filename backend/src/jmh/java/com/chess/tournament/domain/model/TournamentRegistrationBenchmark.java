@@ -0,0 +1,47 @@
+package com.chess.tournament.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TournamentRegistrationBenchmark {
+
+    @Param({"16", "256", "4096", "65536"})
+    private int players;
+
+    private PlayerId[] ids;
+    private String[] names;
+    private int[] ratings;
+    private LocalDate startDate;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ids = new PlayerId[players];
+        names = new String[players];
+        ratings = new int[players];
+        for (int i = 0; i < players; i++) {
+            ids[i] = PlayerId.generate();
+            names[i] = "Player " + i;
+            ratings[i] = 1000 + random.nextInt(1800);
+        }
+        startDate = LocalDate.now().plusDays(1);
+    }
+
+    @Benchmark
+    public Tournament registerPlayers() {
+        Tournament tournament = Tournament.create("Benchmark", "", startDate, TournamentType.ROUND_ROBIN);
+        for (int i = 0; i < players; i++) {
+            tournament.registerPlayer(ids[i], names[i], ratings[i]);
+        }
+        return tournament;
+    }
+}
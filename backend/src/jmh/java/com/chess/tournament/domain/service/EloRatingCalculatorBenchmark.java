@@ -0,0 +1,54 @@
+package com.chess.tournament.domain.service;
+
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.RatingChanges;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EloRatingCalculatorBenchmark {
+
+    @Param({"5000", "50000"})
+    private int games;
+
+    private final EloRatingCalculator calculator = new EloRatingCalculator();
+    private TournamentPlayer[] players;
+    private int[] ratings;
+    private int[] white;
+    private int[] black;
+    private int[] whiteHalfPoints;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int size = games / 5;
+        players = new TournamentPlayer[size];
+        ratings = new int[size];
+        for (int i = 0; i < size; i++) {
+            ratings[i] = 1000 + random.nextInt(1800);
+            players[i] = new TournamentPlayer(PlayerId.generate(), "Player " + i, ratings[i]);
+        }
+
+        white = new int[games];
+        black = new int[games];
+        whiteHalfPoints = new int[games];
+        for (int game = 0; game < games; game++) {
+            white[game] = random.nextInt(size);
+            black[game] = (white[game] + 1 + random.nextInt(size - 1)) % size;
+            whiteHalfPoints[game] = random.nextInt(3);
+        }
+    }
+
+    @Benchmark
+    public RatingChanges rateField() {
+        return calculator.calculate(ordinal -> players[ordinal], ratings, white, black, whiteHalfPoints, games);
+    }
+}
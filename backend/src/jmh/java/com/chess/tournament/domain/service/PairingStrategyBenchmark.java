@@ -0,0 +1,61 @@
+package com.chess.tournament.domain.service;
+
+import com.chess.tournament.domain.model.Pairing;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PairingStrategyBenchmark {
+
+    @Param({"16", "256", "4096", "65536"})
+    private int players;
+
+    private final RoundRobinStrategy roundRobin = new RoundRobinStrategy();
+    private final SingleEliminationStrategy singleElimination = new SingleEliminationStrategy();
+    private Tournament roundRobinTournament;
+    private Tournament knockoutTournament;
+    private int lastRound;
+
+    @Setup
+    public void setUp() {
+        roundRobinTournament = tournament(TournamentType.ROUND_ROBIN);
+        knockoutTournament = tournament(TournamentType.SINGLE_ELIMINATION);
+        lastRound = players - 1;
+    }
+
+    private Tournament tournament(TournamentType type) {
+        Random random = new Random(42);
+        Tournament tournament = Tournament.create("Benchmark", "", LocalDate.now().plusDays(1), type);
+        for (int i = 0; i < players; i++) {
+            tournament.registerPlayer(PlayerId.generate(), "Player " + i, 1000 + random.nextInt(1800));
+        }
+        return tournament;
+    }
+
+    @Benchmark
+    public List<Pairing> roundRobinFirstRound() {
+        return roundRobin.generatePairings(roundRobinTournament, 1);
+    }
+
+    @Benchmark
+    public List<Pairing> roundRobinLastRound() {
+        return roundRobin.generatePairings(roundRobinTournament, lastRound);
+    }
+
+    @Benchmark
+    public List<Pairing> singleEliminationFirstRound() {
+        return singleElimination.generatePairings(knockoutTournament, 1);
+    }
+}
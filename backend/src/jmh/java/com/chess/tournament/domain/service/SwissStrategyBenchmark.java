@@ -0,0 +1,84 @@
+package com.chess.tournament.domain.service;
+
+import com.chess.tournament.domain.model.Pairing;
+import com.chess.tournament.domain.model.PairingHistory;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwissStrategyBenchmark {
+
+    private static final int PLAYED_ROUNDS = 6;
+
+    @Param({"500", "2000", "5000"})
+    private int players;
+
+    private final SwissStrategy strategy = new SwissStrategy();
+    private List<SwissEntrant> entrants;
+    private PairingHistory history;
+    private List<SwissEntrant> trappedEntrants;
+    private PairingHistory trappedHistory;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<TournamentPlayer> roster = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            roster.add(new TournamentPlayer(PlayerId.generate(), "Player " + i, 1000 + random.nextInt(1800)));
+        }
+
+        history = new PairingHistory(players);
+        for (int i = 0; i < players; i++) {
+            history.addPlayer();
+        }
+        for (int round = 0; round < PLAYED_ROUNDS; round++) {
+            for (int white = 0; white < players; white++) {
+                int black = random.nextInt(players);
+                if (black != white && !history.haveMet(white, black)) {
+                    history.recordGame(white, black);
+                }
+            }
+        }
+
+        entrants = new ArrayList<>(players);
+        for (int ordinal = 0; ordinal < players; ordinal++) {
+            int halfPoints = random.nextInt(2 * PLAYED_ROUNDS + 1);
+            entrants.add(new SwissEntrant(roster.get(ordinal), ordinal, halfPoints, history.colourDifference(ordinal), history.colourStreak(ordinal), false));
+        }
+
+        // The lowest ranked player has met everyone but the leader, so the bounded search runs out and the matching decides
+        trappedHistory = new PairingHistory(players);
+        for (int i = 0; i < players; i++) {
+            trappedHistory.addPlayer();
+        }
+        for (int opponent = 1; opponent < players - 1; opponent++) {
+            trappedHistory.recordGame(opponent, players - 1);
+        }
+        trappedEntrants = new ArrayList<>(players);
+        for (int ordinal = 0; ordinal < players; ordinal++) {
+            var player = new TournamentPlayer(roster.get(ordinal).id(), roster.get(ordinal).name(), 3000 + players - ordinal);
+            trappedEntrants.add(new SwissEntrant(player, ordinal, 0, 0, 0, false));
+        }
+    }
+
+    @Benchmark
+    public List<Pairing> pairRound() {
+        return strategy.pair(entrants, history);
+    }
+
+    @Benchmark
+    public List<Pairing> pairRoundAfterExhaustedSearch() {
+        return strategy.pair(trappedEntrants, trappedHistory);
+    }
+}
@@ -0,0 +1,39 @@
+package com.chess.tournament.infrastructure.adapter.web;
+
+import com.chess.tournament.domain.model.Pairing;
+import com.chess.tournament.domain.model.PlayerId;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PairingSerializationBenchmark {
+
+    @Param({"16", "256", "4096", "65536"})
+    private int players;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<Pairing> pairings;
+
+    @Setup
+    public void setUp() {
+        pairings = new ArrayList<>(players / 2);
+        for (int i = 0; i < players; i += 2) {
+            pairings.add(new Pairing(PlayerId.generate(), PlayerId.generate(), "Player " + i, "Player " + (i + 1)));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePairings() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pairings);
+    }
+}
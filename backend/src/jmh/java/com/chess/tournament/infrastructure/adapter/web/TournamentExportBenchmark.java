@@ -0,0 +1,121 @@
+package com.chess.tournament.infrastructure.adapter.web;
+
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.Pairing;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Round;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentType;
+import com.chess.tournament.domain.service.PairingStrategies;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TournamentExportBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    @Param({"1000", "10000"})
+    private int players;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private Tournament tournament;
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        tournament = Tournament.create("Benchmark Open", "Export benchmark", LocalDate.now().plusDays(1), TournamentType.SWISS);
+        for (int i = 0; i < players; i++) {
+            tournament.registerPlayer(PlayerId.generate(), "Player " + i, 1000 + (i * 7919) % 1500);
+        }
+        tournament.start();
+        for (int number = 1; number <= ROUNDS; number++) {
+            var round = tournament.openNextRound(PairingStrategies.forType(TournamentType.SWISS));
+            for (int board = 1; board <= round.boards(); board++) {
+                if (!round.isBye(board)) {
+                    tournament.recordResult(number, board, GameResult.values()[board % 3]);
+                }
+            }
+        }
+        tournament = tournament.snapshot();
+        binary = encodeBinary();
+        json = encodeJson();
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() throws IOException {
+        var output = new ByteArrayOutputStream(binary == null ? 1 << 16 : binary.length);
+        TournamentBinaryCodec.encode(tournament, Channels.newChannel(output));
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public Tournament decodeBinary() throws IOException {
+        return TournamentBinaryCodec.decode(Channels.newChannel(new ByteArrayInputStream(binary)));
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        var rounds = tournament.getRounds().stream().map(round -> RoundDocument.of(tournament, round)).toList();
+        var document = new TournamentDocument(tournament.getId().value().toString(), tournament.getName(), tournament.getDescription(), tournament.getStartDate(),
+                tournament.getType(), tournament.getStatus(), tournament.getVersion(), List.copyOf(tournament.getRegisteredPlayers()), rounds);
+        return objectMapper.writeValueAsBytes(document);
+    }
+
+    @Benchmark
+    public Tournament decodeJson() throws IOException {
+        var document = objectMapper.readValue(json, TournamentDocument.class);
+        Map<PlayerId, Integer> ordinals = HashMap.newHashMap(document.players().size());
+        for (TournamentPlayer player : document.players()) {
+            ordinals.put(player.id(), ordinals.size());
+        }
+        List<Round> rounds = new ArrayList<>(document.rounds().size());
+        for (RoundDocument round : document.rounds()) {
+            int[] white = new int[round.pairings().size()];
+            int[] black = new int[round.pairings().size()];
+            for (int board = 0; board < white.length; board++) {
+                var pairing = round.pairings().get(board);
+                white[board] = ordinals.get(pairing.whitePlayer());
+                black[board] = pairing.blackPlayer() == null ? Round.BYE : ordinals.get(pairing.blackPlayer());
+            }
+            rounds.add(Round.restore(round.number(), white, black, round.results()));
+        }
+        return Tournament.restore(TournamentId.from(document.id()), document.name(), document.description(), document.startDate(), document.type(),
+                document.status(), document.version(), document.players(), rounds);
+    }
+
+    private record TournamentDocument(String id, String name, String description, LocalDate startDate, TournamentType type, TournamentStatus status,
+                                      long version, List<TournamentPlayer> players, List<RoundDocument> rounds) {
+    }
+
+    private record RoundDocument(int number, List<Pairing> pairings, List<GameResult> results) {
+
+        static RoundDocument of(Tournament tournament, Round round) {
+            List<GameResult> results = new ArrayList<>(round.boards());
+            for (int board = 1; board <= round.boards(); board++) {
+                results.add(round.getResult(board).orElse(null));
+            }
+            return new RoundDocument(round.getNumber(), tournament.getPairings(round), results);
+        }
+    }
+}
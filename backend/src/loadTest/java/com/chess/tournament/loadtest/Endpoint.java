@@ -0,0 +1,24 @@
+package com.chess.tournament.loadtest;
+
+enum Endpoint {
+    REGISTER_PLAYER("POST /players", 40),
+    GET_PLAYERS("GET /players", 30),
+    GET_PAIRINGS("GET /pairings", 25),
+    START("POST /start", 5);
+
+    private final String label;
+    private final int weight;
+
+    Endpoint(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    String label() {
+        return label;
+    }
+
+    int weight() {
+        return weight;
+    }
+}
@@ -0,0 +1,64 @@
+package com.chess.tournament.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LatencyReport {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final ConcurrentMap<Endpoint, Recorder> recorders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Endpoint, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(Endpoint endpoint, long latencyNanos, boolean failed) {
+        recorders.computeIfAbsent(endpoint, ignored -> new Recorder(SIGNIFICANT_DIGITS)).recordValue(latencyNanos);
+        if (failed) {
+            errors.computeIfAbsent(endpoint, ignored -> new LongAdder()).increment();
+        }
+    }
+
+    void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    void print(String title, PrintStream out, Path reportDirectory) throws IOException {
+        Files.createDirectories(reportDirectory);
+        out.println();
+        out.println("== " + title + " ==");
+        out.printf("%-16s %10s %8s %10s %10s %10s %10s%n", "endpoint", "requests", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Recorder recorder = recorders.get(endpoint);
+            if (recorder == null) {
+                continue;
+            }
+            Histogram histogram = recorder.getIntervalHistogram();
+            LongAdder failed = errors.get(endpoint);
+            out.printf("%-16s %10d %8d %10.2f %10.2f %10.2f %10.2f%n", endpoint.label(), histogram.getTotalCount(), failed == null ? 0 : failed.sum(),
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+
+            Path file = reportDirectory.resolve(fileName(title, endpoint));
+            try (var hgrm = new PrintStream(Files.newOutputStream(file))) {
+                histogram.outputPercentileDistribution(hgrm, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    private static String fileName(String title, Endpoint endpoint) {
+        return (title + "-" + endpoint.name()).toLowerCase().replaceAll("[^a-z0-9]+", "-") + ".hgrm";
+    }
+}
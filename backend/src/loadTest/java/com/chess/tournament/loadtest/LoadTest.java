@@ -0,0 +1,102 @@
+package com.chess.tournament.loadtest;
+
+import com.chess.tournament.ChessTournamentManagerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = LoadTestOptions.parse(args);
+        for (LoadTestOptions.ExecutorKind executor : options.executors()) {
+            run(options, executor);
+        }
+    }
+
+    private static void run(LoadTestOptions options, LoadTestOptions.ExecutorKind executor) throws Exception {
+        try (var context = new SpringApplicationBuilder(ChessTournamentManagerApplication.class)
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + executor.virtualThreads(),
+                        "tournament.registration.queue.enabled=" + options.queuedRegistration(),
+                        "logging.level.root=WARN")
+                .run();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                                         .version(HttpClient.Version.HTTP_1_1)
+                                         .executor(clients)
+                                         .connectTimeout(Duration.ofSeconds(10))
+                                         .build()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            var workload = new TournamentWorkload(http, port);
+            workload.setUp(options.tournaments());
+
+            var report = new LatencyReport();
+            long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+            long end = warmupEnd + options.duration().toNanos();
+            Thread resetter = Thread.ofVirtual().start(() -> {
+                LockSupport.parkNanos(warmupEnd - System.nanoTime());
+                report.reset();
+            });
+
+            String title;
+            if (options.mode() == LoadTestOptions.Mode.OPEN) {
+                runOpenLoop(workload, report, options.rate(), end);
+                title = executor.label() + ", open loop at " + options.rate() + " req/s";
+            } else {
+                runClosedLoop(workload, report, options.clients(), end);
+                title = executor.label() + ", " + options.clients() + " closed-loop clients";
+            }
+            resetter.join();
+            report.print(title, System.out, options.reportDirectory());
+        }
+    }
+
+    private static void runOpenLoop(TournamentWorkload workload, LatencyReport report, int rate, long end) {
+        long interval = 1_000_000_000L / rate;
+        try (var requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            long intendedStart = System.nanoTime();
+            while (intendedStart < end) {
+                long delay = intendedStart - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+                long scheduled = intendedStart;
+                requests.execute(() -> call(workload, report, scheduled));
+                intendedStart += interval;
+            }
+        }
+    }
+
+    private static void runClosedLoop(TournamentWorkload workload, LatencyReport report, int count, long end) throws InterruptedException {
+        Thread[] threads = new Thread[count];
+        for (int i = 0; i < count; i++) {
+            threads[i] = Thread.ofVirtual().start(() -> {
+                while (System.nanoTime() < end) {
+                    call(workload, report, System.nanoTime());
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private static void call(TournamentWorkload workload, LatencyReport report, long start) {
+        Endpoint endpoint = workload.pick();
+        boolean succeeded;
+        try {
+            succeeded = workload.execute(endpoint);
+        } catch (Exception e) {
+            succeeded = false;
+        }
+        report.record(endpoint, System.nanoTime() - start, !succeeded);
+    }
+}
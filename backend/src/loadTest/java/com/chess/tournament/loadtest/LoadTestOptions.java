@@ -0,0 +1,67 @@
+package com.chess.tournament.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+record LoadTestOptions(Mode mode, int clients, int rate, Duration warmup, Duration duration, int tournaments,
+                       List<ExecutorKind> executors, Path reportDirectory, boolean queuedRegistration) {
+
+    enum Mode { CLOSED, OPEN }
+
+    enum ExecutorKind {
+        PLATFORM("platform threads", false),
+        VIRTUAL("virtual threads", true);
+
+        private final String label;
+        private final boolean virtualThreads;
+
+        ExecutorKind(String label, boolean virtualThreads) {
+            this.label = label;
+            this.virtualThreads = virtualThreads;
+        }
+
+        String label() {
+            return label;
+        }
+
+        boolean virtualThreads() {
+            return virtualThreads;
+        }
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Mode mode = Mode.OPEN;
+        int clients = 2_000;
+        int rate = 2_000;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(30);
+        int tournaments = 200;
+        List<ExecutorKind> executors = List.of(ExecutorKind.PLATFORM, ExecutorKind.VIRTUAL);
+        Path reportDirectory = Path.of("build", "reports", "load-test");
+        boolean queuedRegistration = false;
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "mode" -> mode = Mode.valueOf(value.toUpperCase());
+                case "clients" -> clients = Integer.parseInt(value);
+                case "rate" -> rate = Integer.parseInt(value);
+                case "warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+                case "tournaments" -> tournaments = Integer.parseInt(value);
+                case "executors" -> executors = Arrays.stream(value.split(",")).map(kind -> ExecutorKind.valueOf(kind.strip().toUpperCase())).toList();
+                case "report-dir" -> reportDirectory = Path.of(value);
+                case "queued-registration" -> queuedRegistration = Boolean.parseBoolean(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        return new LoadTestOptions(mode, clients, rate, warmup, duration, tournaments, executors, reportDirectory, queuedRegistration);
+    }
+}
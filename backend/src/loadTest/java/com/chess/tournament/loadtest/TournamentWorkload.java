@@ -0,0 +1,109 @@
+package com.chess.tournament.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class TournamentWorkload {
+
+    private static final int PLAYERS_PER_TOURNAMENT = 16;
+    private static final int TOTAL_WEIGHT = totalWeight();
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<String> runningTournaments = new ArrayList<>();
+    private final List<String> plannedTournaments = new ArrayList<>();
+    private final AtomicInteger nextToStart = new AtomicInteger();
+
+    TournamentWorkload(HttpClient client, int port) {
+        this.client = client;
+        this.baseUrl = "http://localhost:" + port + "/api/tournaments";
+    }
+
+    void setUp(int tournaments) throws IOException, InterruptedException {
+        for (int i = 0; i < tournaments; i++) {
+            String id = send(post("", "{\"name\":\"Load Test " + i + "\",\"description\":\"\",\"startDate\":\"2099-01-01\",\"type\":\"ROUND_ROBIN\"}")).body();
+            HttpResponse<String> registered = null;
+            for (int player = 0; player < PLAYERS_PER_TOURNAMENT; player++) {
+                registered = send(post("/" + id + "/players", registration()));
+            }
+            awaitQueuedRegistration(registered);
+            if (i % 2 == 0) {
+                send(post("/" + id + "/start", ""));
+                runningTournaments.add(id);
+            } else {
+                plannedTournaments.add(id);
+            }
+        }
+    }
+
+    private void awaitQueuedRegistration(HttpResponse<String> response) throws IOException, InterruptedException {
+        var location = response.headers().firstValue("Location");
+        if (response.statusCode() != 202 || location.isEmpty()) {
+            return;
+        }
+        var poll = HttpRequest.newBuilder(URI.create(baseUrl).resolve(location.get())).GET().build();
+        while (send(poll).body().contains("\"PENDING\"")) {
+            Thread.sleep(1);
+        }
+    }
+
+    Endpoint pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+        for (Endpoint endpoint : Endpoint.values()) {
+            ticket -= endpoint.weight();
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("Endpoint weights do not add up");
+    }
+
+    boolean execute(Endpoint endpoint) throws IOException, InterruptedException {
+        var request = switch (endpoint) {
+            case REGISTER_PLAYER -> post("/" + randomOf(plannedTournaments) + "/players", registration());
+            case GET_PLAYERS -> get("/" + randomOf(runningTournaments) + "/players");
+            case GET_PAIRINGS -> get("/" + randomOf(runningTournaments) + "/pairings?round=1");
+            case START -> post("/" + plannedTournaments.get(Math.floorMod(nextToStart.getAndIncrement(), plannedTournaments.size())) + "/start", "");
+        };
+        return send(request).statusCode() < 400;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                          .header("Content-Type", "application/json")
+                          .POST(HttpRequest.BodyPublishers.ofString(json))
+                          .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private static String registration() {
+        return "{\"playerName\":\"Player " + UUID.randomUUID() + "\",\"rating\":" + (1000 + ThreadLocalRandom.current().nextInt(1800)) + "}";
+    }
+
+    private static String randomOf(List<String> tournaments) {
+        return tournaments.get(ThreadLocalRandom.current().nextInt(tournaments.size()));
+    }
+
+    private static int totalWeight() {
+        int total = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            total += endpoint.weight();
+        }
+        return total;
+    }
+}
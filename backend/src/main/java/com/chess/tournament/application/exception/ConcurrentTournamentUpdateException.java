@@ -0,0 +1,8 @@
+package com.chess.tournament.application.exception;
+
+public class ConcurrentTournamentUpdateException extends RuntimeException {
+
+    public ConcurrentTournamentUpdateException(String tournamentId, long expectedVersion) {
+        super("Tournament with id '" + tournamentId + "' was modified concurrently (expected version " + expectedVersion + ")");
+    }
+}
@@ -0,0 +1,8 @@
+package com.chess.tournament.application.exception;
+
+public class RegistrationQueueFullException extends RuntimeException {
+
+    public RegistrationQueueFullException(String tournamentId, int capacity) {
+        super("Registration queue for tournament with id '" + tournamentId + "' is full (" + capacity + " pending registrations)");
+    }
+}
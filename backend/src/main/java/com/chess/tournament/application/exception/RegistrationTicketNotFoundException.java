@@ -0,0 +1,8 @@
+package com.chess.tournament.application.exception;
+
+public class RegistrationTicketNotFoundException extends RuntimeException {
+
+    public RegistrationTicketNotFoundException(String ticketId) {
+        super("Registration ticket with id '" + ticketId + "' not found");
+    }
+}
@@ -0,0 +1,8 @@
+package com.chess.tournament.application.exception;
+
+public class RoundNotFoundException extends RuntimeException {
+
+    public RoundNotFoundException(String tournamentId, int round) {
+        super("Round " + round + " of tournament with id '" + tournamentId + "' has not been opened");
+    }
+}
@@ -0,0 +1,86 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.domain.model.BracketSeeding;
+import com.chess.tournament.domain.model.TournamentEvent;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentSummary;
+import com.chess.tournament.domain.port.TournamentEventPublisher;
+import com.chess.tournament.domain.port.TournamentRepository;
+import com.chess.tournament.domain.service.PairingStrategies;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AdvanceRoundsUseCase {
+
+    static final int PAGE_SIZE = 200;
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentEventPublisher eventPublisher;
+    private final BracketSeeding seeding;
+    private final int parallelism;
+
+    public AdvanceRoundsUseCase(TournamentRepository tournamentRepository, TournamentEventPublisher eventPublisher, BracketSeeding seeding, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.tournamentRepository = tournamentRepository;
+        this.eventPublisher = eventPublisher;
+        this.seeding = seeding;
+        this.parallelism = parallelism;
+    }
+
+    public RoundAdvanceReport execute() {
+        var advanced = new AtomicInteger();
+        var skipped = new AtomicInteger();
+        Queue<RoundAdvanceFailure> failures = new ConcurrentLinkedQueue<>();
+        var permits = new Semaphore(parallelism);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            TournamentId after = null;
+            List<TournamentSummary> page;
+            do {
+                page = tournamentRepository.findByStatus(TournamentStatus.IN_PROGRESS, after, PAGE_SIZE);
+                for (TournamentSummary summary : page) {
+                    permits.acquireUninterruptibly();
+                    executor.execute(() -> {
+                        try {
+                            (advance(summary.id()) ? advanced : skipped).incrementAndGet();
+                        } catch (RuntimeException e) {
+                            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+                            failures.add(new RoundAdvanceFailure(summary.id().value().toString(), message));
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+                if (!page.isEmpty()) {
+                    after = page.getLast().id();
+                }
+            } while (page.size() == PAGE_SIZE);
+        }
+
+        return new RoundAdvanceReport(advanced.get(), skipped.get(), List.copyOf(failures));
+    }
+
+    private boolean advance(TournamentId tournamentId) {
+        return OptimisticRetry.run(() -> {
+            var tournament = tournamentRepository.findById(tournamentId).orElse(null);
+            if (tournament == null || !tournament.isReadyForNextRound()) {
+                return false;
+            }
+
+            var round = tournament.openNextRound(PairingStrategies.forType(tournament.getType(), seeding));
+
+            var pairings = tournament.getPairings(round);
+            tournamentRepository.save(tournament);
+            eventPublisher.publish(new TournamentEvent.PairingsPublished(tournamentId, tournament.getVersion(), round.getNumber(), pairings));
+            return true;
+        });
+    }
+}
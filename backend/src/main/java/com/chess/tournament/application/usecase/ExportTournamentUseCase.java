@@ -0,0 +1,20 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.application.exception.TournamentNotFoundException;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.port.TournamentRepository;
+
+public class ExportTournamentUseCase {
+
+    private final TournamentRepository tournamentRepository;
+
+    public ExportTournamentUseCase(TournamentRepository tournamentRepository) {
+        this.tournamentRepository = tournamentRepository;
+    }
+
+    public Tournament execute(String tournamentIdString) {
+        TournamentId tournamentId = TournamentId.from(tournamentIdString);
+        return tournamentRepository.findSnapshotById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
+    }
+}
@@ -1,32 +1,41 @@
 package com.chess.tournament.application.usecase;
 
 import com.chess.tournament.application.exception.TournamentNotFoundException;
+import com.chess.tournament.domain.model.BracketSeeding;
 import com.chess.tournament.domain.model.Pairing;
+import com.chess.tournament.domain.model.TournamentEvent;
 import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.port.TournamentEventPublisher;
 import com.chess.tournament.domain.port.TournamentRepository;
-import com.chess.tournament.domain.service.PairingStrategy;
-import com.chess.tournament.domain.service.RoundRobinStrategy;
-import com.chess.tournament.domain.service.SingleEliminationStrategy;
+import com.chess.tournament.domain.service.PairingStrategies;
 
 import java.util.List;
 
 public class GeneratePairingsUseCase {
 
     private final TournamentRepository tournamentRepository;
+    private final TournamentEventPublisher eventPublisher;
+    private final BracketSeeding seeding;
 
-    public GeneratePairingsUseCase(TournamentRepository tournamentRepository) {
+    public GeneratePairingsUseCase(TournamentRepository tournamentRepository, TournamentEventPublisher eventPublisher, BracketSeeding seeding) {
         this.tournamentRepository = tournamentRepository;
+        this.eventPublisher = eventPublisher;
+        this.seeding = seeding;
     }
 
-    public List<Pairing> execute(String tournamentIdString, int round) {
+    public List<Pairing> execute(String tournamentIdString) {
         TournamentId tournamentId = TournamentId.from(tournamentIdString);
-        var tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
 
-        PairingStrategy strategy = switch (tournament.getType()) {
-            case ROUND_ROBIN -> new RoundRobinStrategy();
-            case SINGLE_ELIMINATION -> new SingleEliminationStrategy();
-        };
+        return OptimisticRetry.run(() -> {
+            var tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
 
-        return strategy.generatePairings(tournament, round);
+            var round = tournament.openNextRound(PairingStrategies.forType(tournament.getType(), seeding));
+
+            var pairings = tournament.getPairings(round);
+            tournamentRepository.save(tournament);
+            eventPublisher.publish(new TournamentEvent.PairingsPublished(tournamentId, tournament.getVersion(), round.getNumber(), pairings));
+
+            return pairings;
+        });
     }
 }
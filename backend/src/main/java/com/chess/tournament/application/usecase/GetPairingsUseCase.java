@@ -0,0 +1,25 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.application.exception.RoundNotFoundException;
+import com.chess.tournament.application.exception.TournamentNotFoundException;
+import com.chess.tournament.domain.model.Pairing;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.port.TournamentRepository;
+
+import java.util.List;
+
+public class GetPairingsUseCase {
+
+    private final TournamentRepository tournamentRepository;
+
+    public GetPairingsUseCase(TournamentRepository tournamentRepository) {
+        this.tournamentRepository = tournamentRepository;
+    }
+
+    public List<Pairing> execute(String tournamentIdString, int round) {
+        TournamentId tournamentId = TournamentId.from(tournamentIdString);
+        var tournament = tournamentRepository.findSnapshotById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
+
+        return tournament.getRound(round).map(tournament::getPairings).orElseThrow(() -> new RoundNotFoundException(tournamentIdString, round));
+    }
+}
@@ -0,0 +1,47 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.application.exception.TournamentNotFoundException;
+import com.chess.tournament.domain.model.RatingChanges;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.port.TournamentRepository;
+import com.chess.tournament.domain.service.EloRatingCalculator;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class GetRatingChangesUseCase {
+
+    static final int MAX_CACHED_TOURNAMENTS = 10_000;
+
+    private final TournamentRepository tournamentRepository;
+    private final EloRatingCalculator ratingCalculator = new EloRatingCalculator();
+    private final ConcurrentMap<TournamentId, CachedRatingChanges> cache = new ConcurrentHashMap<>();
+
+    public GetRatingChangesUseCase(TournamentRepository tournamentRepository) {
+        this.tournamentRepository = tournamentRepository;
+    }
+
+    public RatingChanges execute(String tournamentIdString) {
+        TournamentId tournamentId = TournamentId.from(tournamentIdString);
+        long version = tournamentRepository.findVersionById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
+        var cached = cache.get(tournamentId);
+        if (cached != null && cached.version() == version) {
+            return cached.changes();
+        }
+
+        var tournament = tournamentRepository.findSnapshotById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
+        var changes = ratingCalculator.calculate(tournament);
+        if (cache.put(tournamentId, new CachedRatingChanges(tournament.getVersion(), changes)) == null && cache.size() > MAX_CACHED_TOURNAMENTS) {
+            Iterator<TournamentId> evicted = cache.keySet().iterator();
+            if (evicted.hasNext()) {
+                evicted.next();
+                evicted.remove();
+            }
+        }
+        return changes;
+    }
+
+    private record CachedRatingChanges(long version, RatingChanges changes) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.application.exception.TournamentNotFoundException;
+import com.chess.tournament.domain.model.Standing;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.port.TournamentRepository;
+
+import java.util.List;
+
+public class GetStandingsUseCase {
+
+    private final TournamentRepository tournamentRepository;
+
+    public GetStandingsUseCase(TournamentRepository tournamentRepository) {
+        this.tournamentRepository = tournamentRepository;
+    }
+
+    public List<Standing> execute(String tournamentIdString) {
+        TournamentId tournamentId = TournamentId.from(tournamentIdString);
+        var tournament = tournamentRepository.findSnapshotById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
+
+        return tournament.getStandings().ranking();
+    }
+}
@@ -1,6 +1,9 @@
 package com.chess.tournament.application.usecase;
 
 import com.chess.tournament.application.exception.TournamentNotFoundException;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.PlayerOrder;
+import com.chess.tournament.domain.model.Tournament;
 import com.chess.tournament.domain.model.TournamentId;
 import com.chess.tournament.domain.model.TournamentPlayer;
 import com.chess.tournament.domain.port.TournamentRepository;
@@ -9,6 +12,8 @@ import java.util.Collection;
 
 public class GetTournamentPlayersUseCase {
 
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final TournamentRepository tournamentRepository;
 
     public GetTournamentPlayersUseCase(TournamentRepository tournamentRepository) {
@@ -16,9 +21,41 @@ public class GetTournamentPlayersUseCase {
     }
 
     public Collection<TournamentPlayer> execute(String tournamentIdString) {
-        TournamentId tournamentId = TournamentId.from(tournamentIdString);
-        var tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
+        return execute(tournamentIdString, PlayerOrder.REGISTRATION);
+    }
+
+    public Collection<TournamentPlayer> execute(String tournamentIdString, PlayerOrder order) {
+        return findSnapshot(tournamentIdString).getRegisteredPlayers(order);
+    }
+
+    public PlayerPage execute(String tournamentIdString, PlayerOrder order, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        PlayerId after = cursor == null || cursor.isBlank() ? null : PlayerId.from(cursor);
+        var tournament = findSnapshot(tournamentIdString);
 
-        return tournament.getRegisteredPlayers();
+        var players = tournament.getRegisteredPlayers(order, after, limit + 1);
+        if (players.size() <= limit) {
+            return new PlayerPage(players, null);
+        }
+        var page = players.subList(0, limit);
+        return new PlayerPage(page, page.getLast().id().value().toString());
+    }
+
+    public RatingBand execute(String tournamentIdString, int minRating, int maxRating) {
+        if (minRating > maxRating) {
+            throw new IllegalArgumentException("Minimum rating cannot be above maximum rating");
+        }
+        var tournament = findSnapshot(tournamentIdString);
+
+        var players = tournament.getPlayersRatedBetween(minRating, maxRating);
+        int firstSeed = players.isEmpty() ? 0 : tournament.getSeed(players.getFirst().id());
+        return new RatingBand(firstSeed, players);
+    }
+
+    private Tournament findSnapshot(String tournamentIdString) {
+        TournamentId tournamentId = TournamentId.from(tournamentIdString);
+        return tournamentRepository.findSnapshotById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
     }
-}
\ No newline at end of file
+}
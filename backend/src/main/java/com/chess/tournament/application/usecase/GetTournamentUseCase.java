@@ -2,6 +2,7 @@ package com.chess.tournament.application.usecase;
 
 import com.chess.tournament.application.exception.TournamentNotFoundException;
 import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentSummary;
 import com.chess.tournament.domain.port.TournamentRepository;
 
 public class GetTournamentUseCase {
@@ -14,7 +15,7 @@ public class GetTournamentUseCase {
 
     public TournamentDetails execute(String tournamentIdString) {
         TournamentId tournamentId = TournamentId.from(tournamentIdString);
-        var tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
-        return new TournamentDetails(tournament.getId().value().toString(), tournament.getName(), tournament.getDescription(), tournament.getType(), tournament.getStatus());
+        var tournament = tournamentRepository.findSnapshotById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
+        return TournamentDetails.from(TournamentSummary.of(tournament));
     }
 }
\ No newline at end of file
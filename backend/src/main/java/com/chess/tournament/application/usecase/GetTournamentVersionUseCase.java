@@ -0,0 +1,19 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.application.exception.TournamentNotFoundException;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.port.TournamentRepository;
+
+public class GetTournamentVersionUseCase {
+
+    private final TournamentRepository tournamentRepository;
+
+    public GetTournamentVersionUseCase(TournamentRepository tournamentRepository) {
+        this.tournamentRepository = tournamentRepository;
+    }
+
+    public long execute(String tournamentIdString) {
+        TournamentId tournamentId = TournamentId.from(tournamentIdString);
+        return tournamentRepository.findVersionById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
+    }
+}
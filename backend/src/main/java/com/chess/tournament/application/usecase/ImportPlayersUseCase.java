@@ -0,0 +1,130 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.application.exception.PlayerAlreadyRegisteredException;
+import com.chess.tournament.application.exception.TournamentNotFoundException;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentEvent;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.port.TournamentEventPublisher;
+import com.chess.tournament.domain.port.TournamentRepository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class ImportPlayersUseCase {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentEventPublisher eventPublisher;
+
+    public ImportPlayersUseCase(TournamentRepository tournamentRepository, TournamentEventPublisher eventPublisher) {
+        this.tournamentRepository = tournamentRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public PlayerImportReport execute(String tournamentIdString, Iterator<PlayerImportRow> rows) {
+        TournamentId tournamentId = TournamentId.from(tournamentIdString);
+        if (tournamentRepository.findSnapshotById(tournamentId).isEmpty()) {
+            throw new TournamentNotFoundException(tournamentIdString);
+        }
+
+        var report = new ReportBuilder();
+        List<PlayerImportRow> chunkRows = new ArrayList<>(CHUNK_SIZE);
+        List<TournamentPlayer> chunkPlayers = new ArrayList<>(CHUNK_SIZE);
+
+        while (rows.hasNext()) {
+            PlayerImportRow row = rows.next();
+            if (!row.isValid()) {
+                report.reject(row.line(), row.error());
+                continue;
+            }
+
+            try {
+                chunkPlayers.add(new TournamentPlayer(PlayerId.generate(), row.playerName(), row.rating()));
+                chunkRows.add(row);
+            } catch (IllegalArgumentException e) {
+                report.reject(row.line(), e.getMessage());
+            }
+
+            if (chunkPlayers.size() == CHUNK_SIZE) {
+                applyChunk(tournamentId, tournamentIdString, chunkRows, chunkPlayers, report);
+                chunkRows.clear();
+                chunkPlayers.clear();
+            }
+        }
+
+        if (!chunkPlayers.isEmpty()) {
+            applyChunk(tournamentId, tournamentIdString, chunkRows, chunkPlayers, report);
+        }
+        return report.build();
+    }
+
+    private void applyChunk(TournamentId tournamentId, String tournamentIdString, List<PlayerImportRow> rows, List<TournamentPlayer> players, ReportBuilder report) {
+        var chunkReport = OptimisticRetry.run(() -> {
+            Tournament tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
+            var attempt = new ReportBuilder();
+            List<TournamentPlayer> registered = players;
+
+            try {
+                tournament.registerPlayers(players);
+                attempt.accept(players.size());
+            } catch (PlayerAlreadyRegisteredException e) {
+                registered = new ArrayList<>(players.size());
+                for (int i = 0; i < players.size(); i++) {
+                    var player = players.get(i);
+                    try {
+                        tournament.registerPlayer(player.id(), player.name(), player.rating());
+                        attempt.accept(1);
+                        registered.add(player);
+                    } catch (PlayerAlreadyRegisteredException duplicate) {
+                        attempt.reject(rows.get(i).line(), duplicate.getMessage());
+                    }
+                }
+            }
+
+            tournamentRepository.save(tournament);
+            if (!registered.isEmpty()) {
+                eventPublisher.publish(new TournamentEvent.PlayersRegistered(tournamentId, tournament.getVersion(), List.copyOf(registered)));
+            }
+            return attempt;
+        });
+        report.merge(chunkReport);
+    }
+
+    private static final class ReportBuilder {
+
+        private final List<PlayerImportError> errors = new ArrayList<>();
+        private long accepted;
+        private long rejected;
+
+        void accept(int count) {
+            accepted += count;
+        }
+
+        void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new PlayerImportError(line, message));
+            }
+        }
+
+        void merge(ReportBuilder other) {
+            accepted += other.accepted;
+            rejected += other.rejected;
+            for (PlayerImportError error : other.errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(error);
+                }
+            }
+        }
+
+        PlayerImportReport build() {
+            return new PlayerImportReport(accepted, rejected, List.copyOf(errors), rejected > errors.size());
+        }
+    }
+}
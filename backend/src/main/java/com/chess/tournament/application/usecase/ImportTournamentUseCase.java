@@ -0,0 +1,21 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.port.TournamentRepository;
+
+public class ImportTournamentUseCase {
+
+    private final TournamentRepository tournamentRepository;
+
+    public ImportTournamentUseCase(TournamentRepository tournamentRepository) {
+        this.tournamentRepository = tournamentRepository;
+    }
+
+    public String execute(Tournament tournament) {
+        // An imported tournament starts a new version history and conflicts with one already stored under its id
+        tournament.markSaved(0);
+        tournamentRepository.save(tournament);
+
+        return tournament.getId().value().toString();
+    }
+}
@@ -0,0 +1,8 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.domain.model.TournamentStatus;
+
+import java.time.LocalDate;
+
+public record ListTournamentsQuery(TournamentStatus status, String namePrefix, LocalDate startFrom, LocalDate startTo, String cursor, int limit) {
+}
@@ -0,0 +1,55 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentSummary;
+import com.chess.tournament.domain.port.TournamentRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ListTournamentsUseCase {
+
+    public static final int MAX_PAGE_SIZE = 200;
+    private static final LocalDate EARLIEST_START = LocalDate.of(1, 1, 1);
+    private static final LocalDate LATEST_START = LocalDate.of(9999, 12, 31);
+
+    private final TournamentRepository tournamentRepository;
+
+    public ListTournamentsUseCase(TournamentRepository tournamentRepository) {
+        this.tournamentRepository = tournamentRepository;
+    }
+
+    public TournamentPage execute(ListTournamentsQuery query) {
+        int limit = query.limit();
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        boolean byDate = query.startFrom() != null || query.startTo() != null;
+        if ((query.status() != null ? 1 : 0) + (query.namePrefix() != null ? 1 : 0) + (byDate ? 1 : 0) > 1) {
+            throw new IllegalArgumentException("Tournaments can be filtered by only one of status, name or start date");
+        }
+        TournamentId after = query.cursor() == null || query.cursor().isBlank() ? null : TournamentId.from(query.cursor());
+
+        List<TournamentSummary> found;
+        if (query.status() != null) {
+            found = tournamentRepository.findByStatus(query.status(), after, limit + 1);
+        } else if (query.namePrefix() != null) {
+            found = tournamentRepository.findByNamePrefix(query.namePrefix(), after, limit + 1);
+        } else {
+            LocalDate from = query.startFrom() == null ? EARLIEST_START : query.startFrom();
+            LocalDate to = query.startTo() == null ? LATEST_START : query.startTo();
+            if (from.isAfter(to)) {
+                throw new IllegalArgumentException("Start date range must not end before it begins");
+            }
+            found = tournamentRepository.findByStartDateBetween(from, to, after, limit + 1);
+        }
+
+        List<TournamentDetails> tournaments = new ArrayList<>(Math.min(found.size(), limit));
+        for (int i = 0; i < found.size() && i < limit; i++) {
+            tournaments.add(TournamentDetails.from(found.get(i)));
+        }
+        String nextCursor = found.size() > limit ? tournaments.getLast().id() : null;
+        return new TournamentPage(tournaments, nextCursor);
+    }
+}
@@ -0,0 +1,36 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.application.exception.ConcurrentTournamentUpdateException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+final class OptimisticRetry {
+
+    static final int MAX_ATTEMPTS = 16;
+    private static final long BACKOFF_NANOS = 20_000;
+
+    private OptimisticRetry() {
+    }
+
+    static <T> T run(Supplier<T> update) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return update.get();
+            } catch (ConcurrentTournamentUpdateException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(BACKOFF_NANOS * attempt));
+            }
+        }
+    }
+
+    static void run(Runnable update) {
+        run(() -> {
+            update.run();
+            return null;
+        });
+    }
+}
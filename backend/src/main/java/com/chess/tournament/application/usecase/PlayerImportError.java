@@ -0,0 +1,4 @@
+package com.chess.tournament.application.usecase;
+
+public record PlayerImportError(long line, String message) {
+}
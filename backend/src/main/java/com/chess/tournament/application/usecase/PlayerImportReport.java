@@ -0,0 +1,6 @@
+package com.chess.tournament.application.usecase;
+
+import java.util.List;
+
+public record PlayerImportReport(long accepted, long rejected, List<PlayerImportError> errors, boolean errorsTruncated) {
+}
@@ -0,0 +1,16 @@
+package com.chess.tournament.application.usecase;
+
+public record PlayerImportRow(long line, String playerName, int rating, String error) {
+
+    public static PlayerImportRow valid(long line, String playerName, int rating) {
+        return new PlayerImportRow(line, playerName, rating, null);
+    }
+
+    public static PlayerImportRow invalid(long line, String error) {
+        return new PlayerImportRow(line, null, 0, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
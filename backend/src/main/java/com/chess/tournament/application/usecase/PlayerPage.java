@@ -0,0 +1,8 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.domain.model.TournamentPlayer;
+
+import java.util.List;
+
+public record PlayerPage(List<TournamentPlayer> players, String nextCursor) {
+}
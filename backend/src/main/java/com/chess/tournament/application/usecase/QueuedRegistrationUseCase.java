@@ -0,0 +1,233 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.application.exception.PlayerAlreadyRegisteredException;
+import com.chess.tournament.application.exception.RegistrationQueueFullException;
+import com.chess.tournament.application.exception.RegistrationTicketNotFoundException;
+import com.chess.tournament.application.exception.TournamentNotFoundException;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentEvent;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.port.TournamentEventPublisher;
+import com.chess.tournament.domain.port.TournamentRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class QueuedRegistrationUseCase implements AutoCloseable {
+
+    static final int MAX_COMPLETED_TICKETS = 100_000;
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentEventPublisher eventPublisher;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConcurrentMap<TournamentId, RegistrationQueue> queues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RegistrationTicket> tickets = new ConcurrentHashMap<>();
+    private final Queue<String> completedTickets = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger completedCount = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder unpublished = new LongAdder();
+
+    public QueuedRegistrationUseCase(TournamentRepository tournamentRepository, TournamentEventPublisher eventPublisher, int queueCapacity, int batchSize) {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Registration queue capacity and batch size must be positive");
+        }
+        this.tournamentRepository = tournamentRepository;
+        this.eventPublisher = eventPublisher;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+    }
+
+    public RegistrationTicket execute(RegisterPlayerCommand command) {
+        TournamentId tournamentId = TournamentId.from(command.tournamentId());
+        var player = new TournamentPlayer(PlayerId.generate(), command.playerName(), command.rating());
+        if (tournamentRepository.findVersionById(tournamentId).isEmpty()) {
+            throw new TournamentNotFoundException(command.tournamentId());
+        }
+
+        var ticket = new RegistrationTicket(UUID.randomUUID().toString(), command.tournamentId(), player.id().value().toString(), RegistrationStatus.PENDING, null);
+        var registration = new PendingRegistration(ticket, player);
+        tickets.put(ticket.ticketId(), ticket);
+        RegistrationQueue queue;
+        try {
+            // Offering inside compute keeps a queue from being pruned between lookup and offer
+            queue = queues.compute(tournamentId, (id, existing) -> {
+                var target = existing == null ? new RegistrationQueue(id) : existing;
+                if (!target.pending.offer(registration)) {
+                    throw new RegistrationQueueFullException(command.tournamentId(), queueCapacity);
+                }
+                return target;
+            });
+        } catch (RegistrationQueueFullException e) {
+            tickets.remove(ticket.ticketId());
+            throw e;
+        }
+        schedule(queue);
+        return ticket;
+    }
+
+    public RegistrationTicket status(String ticketId) {
+        var ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new RegistrationTicketNotFoundException(ticketId);
+        }
+        return ticket;
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    public long unpublishedCount() {
+        return unpublished.sum();
+    }
+
+    int activeQueues() {
+        return queues.size();
+    }
+
+    @Override
+    public void close() {
+        writers.close();
+    }
+
+    private void schedule(RegistrationQueue queue) {
+        if (!queue.pending.isEmpty() && queue.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(queue));
+        }
+    }
+
+    private void drain(RegistrationQueue queue) {
+        List<PendingRegistration> batch = new ArrayList<>(batchSize);
+        try {
+            while (queue.pending.drainTo(batch, batchSize) > 0) {
+                apply(queue.tournamentId, batch);
+                batch.clear();
+            }
+        } finally {
+            queue.draining.set(false);
+        }
+        queues.computeIfPresent(queue.tournamentId, (id, current) ->
+                current == queue && current.pending.isEmpty() && !current.draining.get() ? null : current);
+        schedule(queue);
+    }
+
+    private void apply(TournamentId tournamentId, List<PendingRegistration> batch) {
+        List<TournamentPlayer> players = new ArrayList<>(batch.size());
+        for (PendingRegistration registration : batch) {
+            players.add(registration.player());
+        }
+
+        BatchOutcome outcome;
+        try {
+            outcome = OptimisticRetry.run(() -> {
+                Tournament tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentId.value().toString()));
+                List<RegistrationTicket> attempt = new ArrayList<>(batch.size());
+                List<TournamentPlayer> registered = players;
+
+                if (!tournament.getStatus().canRegister()) {
+                    String reason = "Players cannot be registered in current status: " + tournament.getStatus();
+                    batch.forEach(registration -> attempt.add(registration.ticket().rejected(reason)));
+                    return new BatchOutcome(attempt, null);
+                }
+
+                try {
+                    tournament.registerPlayers(players);
+                    batch.forEach(registration -> attempt.add(registration.ticket().registered()));
+                } catch (PlayerAlreadyRegisteredException e) {
+                    registered = new ArrayList<>(players.size());
+                    for (PendingRegistration registration : batch) {
+                        var player = registration.player();
+                        try {
+                            tournament.registerPlayer(player.id(), player.name(), player.rating());
+                            attempt.add(registration.ticket().registered());
+                            registered.add(player);
+                        } catch (PlayerAlreadyRegisteredException duplicate) {
+                            attempt.add(registration.ticket().rejected(duplicate.getMessage()));
+                        }
+                    }
+                }
+
+                if (registered.isEmpty()) {
+                    return new BatchOutcome(attempt, null);
+                }
+                tournamentRepository.save(tournament);
+                return new BatchOutcome(attempt, new TournamentEvent.PlayersRegistered(tournamentId, tournament.getVersion(), List.copyOf(registered)));
+            });
+        } catch (TournamentNotFoundException e) {
+            rejected.add(batch.size());
+            batch.forEach(registration -> complete(registration.ticket().rejected(e.getMessage())));
+            return;
+        } catch (RuntimeException e) {
+            // Nothing was saved, so the players are free to register again once the repository recovers
+            failed.add(batch.size());
+            batch.forEach(registration -> complete(registration.ticket().failed(e.getMessage())));
+            return;
+        }
+
+        // The batch is saved, so its outcomes stand even if subscribers never hear about it
+        for (RegistrationTicket ticket : outcome.tickets()) {
+            if (ticket.status() == RegistrationStatus.REJECTED) {
+                rejected.increment();
+            }
+            complete(ticket);
+        }
+        if (outcome.event() != null) {
+            try {
+                eventPublisher.publish(outcome.event());
+            } catch (RuntimeException e) {
+                unpublished.increment();
+            }
+        }
+    }
+
+    private void complete(RegistrationTicket ticket) {
+        tickets.put(ticket.ticketId(), ticket);
+        completedTickets.add(ticket.ticketId());
+        if (completedCount.incrementAndGet() > MAX_COMPLETED_TICKETS) {
+            String oldest = completedTickets.poll();
+            if (oldest != null) {
+                tickets.remove(oldest);
+                completedCount.decrementAndGet();
+            }
+        }
+    }
+
+    private record PendingRegistration(RegistrationTicket ticket, TournamentPlayer player) {
+    }
+
+    private record BatchOutcome(List<RegistrationTicket> tickets, TournamentEvent event) {
+    }
+
+    private final class RegistrationQueue {
+
+        private final TournamentId tournamentId;
+        private final BlockingQueue<PendingRegistration> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private RegistrationQueue(TournamentId tournamentId) {
+            this.tournamentId = tournamentId;
+            this.pending = new LinkedBlockingQueue<>(queueCapacity);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.application.exception.TournamentNotFoundException;
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.TournamentEvent;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.port.TournamentEventPublisher;
+import com.chess.tournament.domain.port.TournamentRepository;
+
+public class RecordResultUseCase {
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentEventPublisher eventPublisher;
+
+    public RecordResultUseCase(TournamentRepository tournamentRepository, TournamentEventPublisher eventPublisher) {
+        this.tournamentRepository = tournamentRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void execute(String tournamentIdString, int round, int board, GameResult result) {
+        TournamentId tournamentId = TournamentId.from(tournamentIdString);
+
+        OptimisticRetry.run(() -> {
+            var tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
+
+            tournament.recordResult(round, board, result);
+            tournamentRepository.save(tournament);
+            eventPublisher.publish(new TournamentEvent.ResultRecorded(tournamentId, tournament.getVersion(), round, board, result));
+        });
+    }
+}
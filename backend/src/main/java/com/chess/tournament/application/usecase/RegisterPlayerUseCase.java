@@ -3,24 +3,36 @@ package com.chess.tournament.application.usecase;
 import com.chess.tournament.application.exception.TournamentNotFoundException;
 import com.chess.tournament.domain.model.PlayerId;
 import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentEvent;
 import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.port.TournamentEventPublisher;
 import com.chess.tournament.domain.port.TournamentRepository;
 
+import java.util.List;
+
 public class RegisterPlayerUseCase {
 
     private final TournamentRepository tournamentRepository;
+    private final TournamentEventPublisher eventPublisher;
 
-    public RegisterPlayerUseCase(TournamentRepository tournamentRepository) {
+    public RegisterPlayerUseCase(TournamentRepository tournamentRepository, TournamentEventPublisher eventPublisher) {
         this.tournamentRepository = tournamentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public void execute(RegisterPlayerCommand command) {
         TournamentId tournamentId = TournamentId.from(command.tournamentId());
-        Tournament tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(command.tournamentId()));
-
         PlayerId playerId = PlayerId.generate();
-        tournament.registerPlayer(playerId, command.playerName(), command.rating());
 
-        tournamentRepository.save(tournament);
+        OptimisticRetry.run(() -> {
+            Tournament tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(command.tournamentId()));
+
+            tournament.registerPlayer(playerId, command.playerName(), command.rating());
+
+            tournamentRepository.save(tournament);
+            eventPublisher.publish(new TournamentEvent.PlayersRegistered(tournamentId, tournament.getVersion(),
+                    List.of(new TournamentPlayer(playerId, command.playerName(), command.rating()))));
+        });
     }
 }
@@ -0,0 +1,8 @@
+package com.chess.tournament.application.usecase;
+
+public enum RegistrationStatus {
+    PENDING,
+    REGISTERED,
+    REJECTED,
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.chess.tournament.application.usecase;
+
+public record RegistrationTicket(String ticketId, String tournamentId, String playerId, RegistrationStatus status, String message) {
+
+    RegistrationTicket registered() {
+        return new RegistrationTicket(ticketId, tournamentId, playerId, RegistrationStatus.REGISTERED, null);
+    }
+
+    RegistrationTicket rejected(String reason) {
+        return new RegistrationTicket(ticketId, tournamentId, playerId, RegistrationStatus.REJECTED, reason);
+    }
+
+    RegistrationTicket failed(String reason) {
+        return new RegistrationTicket(ticketId, tournamentId, playerId, RegistrationStatus.FAILED, reason);
+    }
+}
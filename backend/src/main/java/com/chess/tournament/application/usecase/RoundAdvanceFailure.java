@@ -0,0 +1,4 @@
+package com.chess.tournament.application.usecase;
+
+public record RoundAdvanceFailure(String tournamentId, String message) {
+}
@@ -1,22 +1,42 @@
 package com.chess.tournament.application.usecase;
 
 import com.chess.tournament.application.exception.TournamentNotFoundException;
+import com.chess.tournament.domain.model.BracketSeeding;
+import com.chess.tournament.domain.model.Pairing;
+import com.chess.tournament.domain.model.TournamentEvent;
 import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.port.TournamentEventPublisher;
 import com.chess.tournament.domain.port.TournamentRepository;
+import com.chess.tournament.domain.service.PairingStrategies;
+
+import java.util.List;
 
 public class StartTournamentUseCase {
 
     private final TournamentRepository tournamentRepository;
+    private final TournamentEventPublisher eventPublisher;
+    private final BracketSeeding seeding;
 
-    public StartTournamentUseCase(TournamentRepository tournamentRepository) {
+    public StartTournamentUseCase(TournamentRepository tournamentRepository, TournamentEventPublisher eventPublisher, BracketSeeding seeding) {
         this.tournamentRepository = tournamentRepository;
+        this.eventPublisher = eventPublisher;
+        this.seeding = seeding;
     }
 
-    public void execute(String tournamentIdString) {
+    public List<Pairing> execute(String tournamentIdString) {
         TournamentId tournamentId = TournamentId.from(tournamentIdString);
-        var tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
 
-        tournament.start();
-        tournamentRepository.save(tournament);
+        return OptimisticRetry.run(() -> {
+            var tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new TournamentNotFoundException(tournamentIdString));
+
+            tournament.start();
+            var round = tournament.openNextRound(PairingStrategies.forType(tournament.getType(), seeding));
+            var pairings = tournament.getPairings(round);
+            tournamentRepository.save(tournament);
+            eventPublisher.publish(new TournamentEvent.TournamentStarted(tournamentId, tournament.getVersion()));
+            eventPublisher.publish(new TournamentEvent.PairingsPublished(tournamentId, tournament.getVersion(), round.getNumber(), pairings));
+
+            return pairings;
+        });
     }
 }
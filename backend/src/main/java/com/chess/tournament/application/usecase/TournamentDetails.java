@@ -1,7 +1,14 @@
 package com.chess.tournament.application.usecase;
 
 import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentSummary;
 import com.chess.tournament.domain.model.TournamentType;
 
-public record TournamentDetails(String id, String name, String description, TournamentType type, TournamentStatus status) {
+import java.time.LocalDate;
+
+public record TournamentDetails(String id, String name, String description, TournamentType type, TournamentStatus status, LocalDate startDate) {
+
+    static TournamentDetails from(TournamentSummary summary) {
+        return new TournamentDetails(summary.id().value().toString(), summary.name(), summary.description(), summary.type(), summary.status(), summary.startDate());
+    }
 }
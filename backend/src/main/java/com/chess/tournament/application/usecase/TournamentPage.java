@@ -0,0 +1,6 @@
+package com.chess.tournament.application.usecase;
+
+import java.util.List;
+
+public record TournamentPage(List<TournamentDetails> tournaments, String nextCursor) {
+}
@@ -0,0 +1,210 @@
+package com.chess.tournament.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+public final class Bracket {
+
+    private static final int EMPTY = -1;
+    private static final int UNDECIDED = -2;
+
+    private final TournamentPlayer[] seeds;
+    private final int size;
+    private int[] slots;
+    private Pairing[] pairings;
+    private List<Pairing>[] roundPairings;
+    private boolean shared;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Bracket(TournamentPlayer[] seeds, int[] leaves) {
+        this.seeds = seeds;
+        this.size = leaves.length;
+        this.slots = new int[2 * size];
+        this.pairings = new Pairing[size];
+        this.roundPairings = new List[numberOfRounds() + 1];
+
+        System.arraycopy(leaves, 0, slots, size, size);
+        Arrays.fill(slots, 1, size, UNDECIDED);
+        for (int match = size / 2; match < size; match++) {
+            int top = slots[2 * match];
+            int bottom = slots[2 * match + 1];
+            if (top == EMPTY || bottom == EMPTY) {
+                slots[match] = top == EMPTY ? bottom : top;
+            }
+        }
+    }
+
+    private Bracket(Bracket source) {
+        this.seeds = source.seeds;
+        this.size = source.size;
+        this.slots = source.slots;
+        this.pairings = source.pairings;
+        this.roundPairings = source.roundPairings;
+        this.shared = true;
+    }
+
+    public static Bracket draw(List<TournamentPlayer> seeds) {
+        if (seeds.size() < 2) {
+            throw new IllegalArgumentException("Bracket requires at least 2 players");
+        }
+        int size = calculateBracketSize(seeds.size());
+        int[] leaves = standardPlacement(size);
+        for (int leaf = 0; leaf < size; leaf++) {
+            if (leaves[leaf] >= seeds.size()) {
+                leaves[leaf] = EMPTY;
+            }
+        }
+        return new Bracket(seeds.toArray(new TournamentPlayer[0]), leaves);
+    }
+
+    public static Bracket restore(List<Pairing> firstRound, Function<PlayerId, TournamentPlayer> players) {
+        int size = firstRound.size() * 2;
+        if (size < 2 || size != Integer.highestOneBit(size)) {
+            throw new IllegalArgumentException("First round of a bracket must have a power of two number of boards");
+        }
+
+        List<TournamentPlayer> seeds = new ArrayList<>(size);
+        int[] leaves = new int[size];
+        for (int board = 0; board < firstRound.size(); board++) {
+            Pairing pairing = firstRound.get(board);
+            leaves[2 * board] = seeds.size();
+            seeds.add(players.apply(pairing.whitePlayer()));
+            if (pairing.blackPlayer() == null) {
+                leaves[2 * board + 1] = EMPTY;
+            } else {
+                leaves[2 * board + 1] = seeds.size();
+                seeds.add(players.apply(pairing.blackPlayer()));
+            }
+        }
+        if (seeds.contains(null)) {
+            throw new IllegalArgumentException("First round of a bracket references an unregistered player");
+        }
+        return new Bracket(seeds.toArray(new TournamentPlayer[0]), leaves);
+    }
+
+    public Bracket copy() {
+        shared = true;
+        return new Bracket(this);
+    }
+
+    public int numberOfRounds() {
+        return Integer.numberOfTrailingZeros(size);
+    }
+
+    public List<Pairing> pairings(int round) {
+        validateRound(round);
+        List<Pairing> cached = roundPairings[round];
+        if (cached != null) {
+            return cached;
+        }
+
+        int firstMatch = size >> round;
+        Pairing[] roundMatches = new Pairing[firstMatch];
+        for (int board = 0; board < firstMatch; board++) {
+            Pairing pairing = pairing(firstMatch + board);
+            if (pairing == null) {
+                throw new IllegalStateException("Round " + round + " pairings depend on unfinished matches");
+            }
+            roundMatches[board] = pairing;
+        }
+        List<Pairing> result = Collections.unmodifiableList(Arrays.asList(roundMatches));
+        roundPairings[round] = result;
+        return result;
+    }
+
+    public void recordWinner(int round, int board, PlayerId winner) {
+        validateRound(round);
+        int roundMatches = size >> round;
+        if (board < 1 || board > roundMatches) {
+            throw new IllegalArgumentException("Board must be between 1 and " + roundMatches + " in round " + round);
+        }
+
+        int match = roundMatches + board - 1;
+        if (slots[match] != UNDECIDED) {
+            throw new IllegalStateException("Match on board " + board + " of round " + round + " is already decided");
+        }
+        int top = slots[2 * match];
+        int bottom = slots[2 * match + 1];
+        if (top < 0 || bottom < 0) {
+            throw new IllegalStateException("Match on board " + board + " of round " + round + " is not ready to be played");
+        }
+
+        int decided;
+        if (seeds[top].id().equals(winner)) {
+            decided = top;
+        } else if (seeds[bottom].id().equals(winner)) {
+            decided = bottom;
+        } else {
+            throw new IllegalArgumentException("Player " + winner.value() + " does not play on board " + board + " of round " + round);
+        }
+        unshare();
+        slots[match] = decided;
+    }
+
+    public Optional<TournamentPlayer> champion() {
+        return slots[1] >= 0 ? Optional.of(seeds[slots[1]]) : Optional.empty();
+    }
+
+    private Pairing pairing(int match) {
+        Pairing pairing = pairings[match];
+        if (pairing != null) {
+            return pairing;
+        }
+
+        int top = slots[2 * match];
+        int bottom = slots[2 * match + 1];
+        if (top == UNDECIDED || bottom == UNDECIDED) {
+            return null;
+        }
+
+        if (top == EMPTY || bottom == EMPTY) {
+            var player = seeds[top == EMPTY ? bottom : top];
+            pairing = new Pairing(player.id(), null, player.name(), null);
+        } else {
+            pairing = new Pairing(seeds[top].id(), seeds[bottom].id(), seeds[top].name(), seeds[bottom].name());
+        }
+        pairings[match] = pairing;
+        return pairing;
+    }
+
+    // Cached pairings only depend on decided slots, so copies still sharing the arrays may fill them in for each other
+    private void unshare() {
+        if (shared) {
+            slots = slots.clone();
+            pairings = pairings.clone();
+            roundPairings = roundPairings.clone();
+            shared = false;
+        }
+    }
+
+    private void validateRound(int round) {
+        if (round < 1 || round > numberOfRounds()) {
+            throw new IllegalArgumentException("Round must be between 1 and " + numberOfRounds() + " for this bracket");
+        }
+    }
+
+    private static int calculateBracketSize(int numberOfPlayers) {
+        if (numberOfPlayers == Integer.highestOneBit(numberOfPlayers)) {
+            return numberOfPlayers;
+        }
+        return (Integer.highestOneBit(numberOfPlayers) << 1);
+    }
+
+    private static int[] standardPlacement(int size) {
+        int[] placement = {0};
+        while (placement.length < size) {
+            int[] next = new int[placement.length * 2];
+            int lastSeed = next.length - 1;
+            for (int i = 0; i < placement.length; i++) {
+                next[2 * i] = placement[i];
+                next[2 * i + 1] = lastSeed - placement[i];
+            }
+            placement = next;
+        }
+        return placement;
+    }
+}
@@ -0,0 +1,17 @@
+package com.chess.tournament.domain.model;
+
+public enum BracketSeeding {
+
+    REGISTRATION_ORDER("Seeds follow registration order"),
+    RATING("Highest rated player is seeded first");
+
+    private final String description;
+
+    BracketSeeding(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
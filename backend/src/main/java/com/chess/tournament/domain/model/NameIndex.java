@@ -0,0 +1,122 @@
+package com.chess.tournament.domain.model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class NameIndex extends OrdinalTreap {
+
+    private static final int EMPTY = 0;
+    private static final int MIN_SLOTS = 8;
+
+    // Players ordered by normalized name for sorting and paging, plus an open-addressing set of ordinal + 1 by key so
+    // duplicate checks stay O(1); copies share the key column and slots and append past their own size like Roster
+    private String[] keys;
+    private int[] slots;
+    private AtomicInteger frontier;
+
+    NameIndex() {
+        this.keys = new String[0];
+        this.slots = new int[MIN_SLOTS];
+        this.frontier = new AtomicInteger();
+    }
+
+    private NameIndex(NameIndex source) {
+        super(source);
+        this.keys = source.keys;
+        this.slots = source.slots;
+        this.frontier = source.frontier;
+    }
+
+    NameIndex copy() {
+        return new NameIndex(this);
+    }
+
+    boolean contains(String key) {
+        int size = size();
+        int mask = slots.length - 1;
+        for (int slot = hash(key) & mask; slots[slot] != EMPTY; slot = (slot + 1) & mask) {
+            int ordinal = slots[slot] - 1;
+            if (ordinal < size && keys[ordinal].equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void add(int ordinal, String key) {
+        int size = size();
+        if (ordinal != size) {
+            throw new IllegalArgumentException("Player ordinal " + ordinal + " is not the next registered player");
+        }
+        if (contains(key)) {
+            throw new IllegalArgumentException("Player name " + key + " is already indexed");
+        }
+        if (size == keys.length || slotsFor(size + 1) > slots.length) {
+            reallocate(Math.max(size + 1, size + (size >> 1)));
+        }
+        if (!frontier.compareAndSet(size, size + 1)) {
+            reallocate(keys.length);
+            frontier.set(size + 1);
+        }
+        keys[size] = key;
+        slot(size);
+        insert(size);
+    }
+
+    @Override
+    int rank(int ordinal) {
+        if (ordinal < 0 || ordinal >= size()) {
+            throw new IllegalArgumentException("Player ordinal " + ordinal + " is not registered in this tournament");
+        }
+        return super.rank(ordinal);
+    }
+
+    @Override
+    void ensureCapacity(int players) {
+        super.ensureCapacity(players);
+        if (players > keys.length || slotsFor(players) > slots.length) {
+            reallocate(Math.max(players, keys.length + (keys.length >> 1)));
+        }
+    }
+
+    @Override
+    void trimToSize() {
+        super.trimToSize();
+        if (keys.length > size()) {
+            reallocate(size());
+        }
+    }
+
+    @Override
+    boolean before(int first, int second) {
+        return keys[first].compareTo(keys[second]) < 0;
+    }
+
+    private void reallocate(int players) {
+        int size = size();
+        keys = Arrays.copyOf(keys, players);
+        slots = new int[slotsFor(Math.max(players, size + 1))];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            slot(ordinal);
+        }
+        frontier = new AtomicInteger(size);
+    }
+
+    private void slot(int ordinal) {
+        int mask = slots.length - 1;
+        int slot = hash(keys[ordinal]) & mask;
+        while (slots[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = ordinal + 1;
+    }
+
+    private static int hash(String key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int slotsFor(int players) {
+        return Math.max(MIN_SLOTS, Integer.highestOneBit(Math.max(1, players) * 2 - 1) << 1);
+    }
+}
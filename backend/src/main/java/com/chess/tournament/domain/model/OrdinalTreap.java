@@ -0,0 +1,209 @@
+package com.chess.tournament.domain.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+abstract class OrdinalTreap {
+
+    private static final int NIL = -1;
+    private static final int MIN_NODES = 16;
+
+    // A persistent treap over player ordinals: inserts copy the nodes on their path instead of changing them, so copies share
+    // the node columns and the first copy to claim the next free nodes appends in place while any other copy reallocates
+    private int[] ordinal;
+    private int[] left;
+    private int[] right;
+    private int[] sizes;
+    private int nodes;
+    private AtomicInteger frontier;
+    private int root;
+
+    OrdinalTreap() {
+        this.ordinal = new int[0];
+        this.left = new int[0];
+        this.right = new int[0];
+        this.sizes = new int[0];
+        this.frontier = new AtomicInteger();
+        this.root = NIL;
+    }
+
+    OrdinalTreap(OrdinalTreap source) {
+        this.ordinal = source.ordinal;
+        this.left = source.left;
+        this.right = source.right;
+        this.sizes = source.sizes;
+        this.nodes = source.nodes;
+        this.frontier = source.frontier;
+        this.root = source.root;
+    }
+
+    abstract boolean before(int first, int second);
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(int player) {
+        // An insert copies every node on its search path plus the new leaf, so those nodes are claimed before it starts
+        int path = 1;
+        for (int node = root; node != NIL; node = before(player, ordinal[node]) ? left[node] : right[node]) {
+            path++;
+        }
+        if (nodes + path > ordinal.length || nodes > 4 * size() + MIN_NODES) {
+            compact(2 * size() + path + MIN_NODES);
+        }
+        if (!frontier.compareAndSet(nodes, nodes + path)) {
+            compact(ordinal.length);
+            frontier.set(nodes + path);
+        }
+        root = insert(root, player);
+    }
+
+    int select(int rank) {
+        if (rank < 0 || rank >= size()) {
+            throw new IllegalArgumentException("Rank " + rank + " is outside the " + size() + " indexed players");
+        }
+        int node = root;
+        while (true) {
+            int leftSize = size(left[node]);
+            if (rank < leftSize) {
+                node = left[node];
+            } else if (rank == leftSize) {
+                return ordinal[node];
+            } else {
+                rank -= leftSize + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    int rank(int player) {
+        int rank = 0;
+        int node = root;
+        while (node != NIL && ordinal[node] != player) {
+            if (before(player, ordinal[node])) {
+                node = left[node];
+            } else {
+                rank += size(left[node]) + 1;
+                node = right[node];
+            }
+        }
+        if (node == NIL) {
+            throw new IllegalArgumentException("Player ordinal " + player + " is not registered in this tournament");
+        }
+        return rank + size(left[node]);
+    }
+
+    int countLeading(IntPredicate leading) {
+        int count = 0;
+        int node = root;
+        while (node != NIL) {
+            if (leading.test(ordinal[node])) {
+                count += size(left[node]) + 1;
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return count;
+    }
+
+    int[] ordinals(int fromRank, int toRank) {
+        if (fromRank < 0 || toRank > size() || fromRank > toRank) {
+            throw new IllegalArgumentException("Ranks " + fromRank + " to " + toRank + " are outside the " + size() + " indexed players");
+        }
+        int[] ordinals = new int[toRank - fromRank];
+        collect(root, 0, fromRank, toRank, ordinals);
+        return ordinals;
+    }
+
+    void ensureCapacity(int players) {
+        if (2 * players > ordinal.length) {
+            compact(Math.max(2 * players, ordinal.length + (ordinal.length >> 1)) + MIN_NODES);
+        }
+    }
+
+    void trimToSize() {
+        if (ordinal.length > size()) {
+            compact(size());
+        }
+    }
+
+    private int insert(int node, int player) {
+        if (node == NIL) {
+            return node(player, NIL, NIL);
+        }
+        if (before(player, ordinal[node])) {
+            int inserted = insert(left[node], player);
+            if (priority(ordinal[inserted]) > priority(ordinal[node])) {
+                // inserted is a node this insert created, so it can be relinked in place
+                right[inserted] = node(ordinal[node], right[inserted], right[node]);
+                return resize(inserted);
+            }
+            return node(ordinal[node], inserted, right[node]);
+        }
+        int inserted = insert(right[node], player);
+        if (priority(ordinal[inserted]) > priority(ordinal[node])) {
+            left[inserted] = node(ordinal[node], left[node], left[inserted]);
+            return resize(inserted);
+        }
+        return node(ordinal[node], left[node], inserted);
+    }
+
+    private int node(int player, int leftChild, int rightChild) {
+        ordinal[nodes] = player;
+        left[nodes] = leftChild;
+        right[nodes] = rightChild;
+        return resize(nodes++);
+    }
+
+    private int resize(int node) {
+        sizes[node] = size(left[node]) + size(right[node]) + 1;
+        return node;
+    }
+
+    // Copies the nodes reachable from the root into fresh columns, dropping path copies no longer in use
+    private void compact(int capacity) {
+        int[] oldOrdinal = ordinal;
+        int[] oldLeft = left;
+        int[] oldRight = right;
+        int oldRoot = root;
+        capacity = Math.max(capacity, size());
+        ordinal = new int[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        sizes = new int[capacity];
+        nodes = 0;
+        root = oldRoot == NIL ? NIL : copyNode(oldRoot, oldOrdinal, oldLeft, oldRight);
+        frontier = new AtomicInteger(nodes);
+    }
+
+    private int copyNode(int node, int[] oldOrdinal, int[] oldLeft, int[] oldRight) {
+        int copied = nodes++;
+        ordinal[copied] = oldOrdinal[node];
+        left[copied] = oldLeft[node] == NIL ? NIL : copyNode(oldLeft[node], oldOrdinal, oldLeft, oldRight);
+        right[copied] = oldRight[node] == NIL ? NIL : copyNode(oldRight[node], oldOrdinal, oldLeft, oldRight);
+        return resize(copied);
+    }
+
+    private void collect(int node, int offset, int fromRank, int toRank, int[] ordinals) {
+        if (node == NIL || offset >= toRank || offset + sizes[node] <= fromRank) {
+            return;
+        }
+        collect(left[node], offset, fromRank, toRank, ordinals);
+        int rank = offset + size(left[node]);
+        if (rank >= fromRank && rank < toRank) {
+            ordinals[rank - fromRank] = ordinal[node];
+        }
+        collect(right[node], rank + 1, fromRank, toRank, ordinals);
+    }
+
+    private int size(int node) {
+        return node == NIL ? 0 : sizes[node];
+    }
+
+    private static int priority(int player) {
+        int hash = player * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
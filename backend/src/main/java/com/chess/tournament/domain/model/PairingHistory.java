@@ -0,0 +1,153 @@
+package com.chess.tournament.domain.model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class PairingHistory {
+
+    public static final int WHITE = 1;
+    public static final int BLACK = -1;
+
+    // Colours are kept newest-first in the low bits below a single marker bit that records how many games are held
+    private static final long NO_COLOURS = 1L;
+    private static final int MAX_COLOURS = Long.SIZE - 2;
+
+    private long[] met;
+    private long[] colours;
+    private int size;
+    // Copies share both arrays: registering only appends a colour slot, claimed through the frontier, while games need a private copy
+    private AtomicInteger frontier;
+    private boolean shared;
+
+    public PairingHistory() {
+        this(0);
+    }
+
+    public PairingHistory(int expectedPlayers) {
+        this.met = new long[wordsFor(expectedPlayers)];
+        this.colours = new long[expectedPlayers];
+        this.frontier = new AtomicInteger();
+    }
+
+    private PairingHistory(PairingHistory source) {
+        this.met = source.met;
+        this.colours = source.colours;
+        this.size = source.size;
+        this.frontier = source.frontier;
+        this.shared = true;
+    }
+
+    public PairingHistory copy() {
+        shared = true;
+        return new PairingHistory(this);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int addPlayer() {
+        ensureCapacity(size + 1);
+        if (!frontier.compareAndSet(size, size + 1)) {
+            reallocate(colours.length);
+            frontier.set(size + 1);
+        }
+        colours[size] = NO_COLOURS;
+        return size++;
+    }
+
+    public void ensureCapacity(int players) {
+        if (players > colours.length) {
+            reallocate(Math.max(players, colours.length + (colours.length >> 1)));
+        }
+    }
+
+    public void trimToSize() {
+        if (colours.length > size) {
+            reallocate(size);
+        }
+    }
+
+    public void recordGame(int white, int black) {
+        long bit = bit(white, black);
+        unshare();
+        met[(int) (bit >>> 6)] |= 1L << bit;
+        addColour(white, 1);
+        addColour(black, 0);
+    }
+
+    public boolean haveMet(int first, int second) {
+        long bit = bit(first, second);
+        return (met[(int) (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    public long colours(int ordinal) {
+        return colours[check(ordinal)];
+    }
+
+    public int colourCount(int ordinal) {
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(colours(ordinal));
+    }
+
+    public int colourDifference(int ordinal) {
+        long sequence = colours(ordinal);
+        int games = Long.SIZE - 1 - Long.numberOfLeadingZeros(sequence);
+        return 2 * (Long.bitCount(sequence) - 1) - games;
+    }
+
+    public int colourStreak(int ordinal) {
+        long sequence = colours(ordinal);
+        int games = Long.SIZE - 1 - Long.numberOfLeadingZeros(sequence);
+        if (games == 0) {
+            return 0;
+        }
+        long played = sequence & ~(1L << games);
+        if ((played & 1) == 1) {
+            return Math.min(Long.numberOfTrailingZeros(~played), games);
+        }
+        return -Math.min(Long.numberOfTrailingZeros(played), games);
+    }
+
+    private void addColour(int ordinal, int white) {
+        long sequence = colours[ordinal];
+        if (Long.numberOfLeadingZeros(sequence) == Long.SIZE - 1 - MAX_COLOURS) {
+            sequence = (sequence & ((1L << (MAX_COLOURS - 1)) - 1)) | 1L << (MAX_COLOURS - 1);
+        }
+        colours[ordinal] = sequence << 1 | white;
+    }
+
+    private void unshare() {
+        if (shared) {
+            reallocate(colours.length);
+        }
+    }
+
+    private void reallocate(int players) {
+        colours = Arrays.copyOf(colours, players);
+        met = Arrays.copyOf(met, wordsFor(players));
+        frontier = new AtomicInteger(size);
+        shared = false;
+    }
+
+    private long bit(int first, int second) {
+        check(first);
+        check(second);
+        if (first == second) {
+            throw new IllegalArgumentException("A player cannot meet themselves");
+        }
+        long high = Math.max(first, second);
+        return high * (high - 1) / 2 + Math.min(first, second);
+    }
+
+    private int check(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) {
+            throw new IllegalArgumentException("Player ordinal " + ordinal + " is not registered in this tournament");
+        }
+        return ordinal;
+    }
+
+    private static int wordsFor(int players) {
+        long bits = (long) players * (players - 1) / 2;
+        return (int) ((bits + Long.SIZE - 1) / Long.SIZE);
+    }
+}
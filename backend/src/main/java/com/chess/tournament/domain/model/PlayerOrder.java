@@ -0,0 +1,7 @@
+package com.chess.tournament.domain.model;
+
+public enum PlayerOrder {
+    REGISTRATION,
+    RATING,
+    NAME
+}
@@ -0,0 +1,4 @@
+package com.chess.tournament.domain.model;
+
+public record RatingChange(TournamentPlayer player, int gamesPlayed, double score, double expectedScore, int performanceRating, int ratingChange, int newRating) {
+}
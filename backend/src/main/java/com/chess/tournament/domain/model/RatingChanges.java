@@ -0,0 +1,73 @@
+package com.chess.tournament.domain.model;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+public final class RatingChanges {
+
+    private final IntFunction<TournamentPlayer> players;
+    private final int[] ratings;
+    private final int[] gamesPlayed;
+    private final int[] halfPoints;
+    private final double[] expectedScores;
+    private final int[] performanceRatings;
+    private final int[] ratingChanges;
+
+    public RatingChanges(IntFunction<TournamentPlayer> players, int[] ratings, int[] gamesPlayed, int[] halfPoints, double[] expectedScores, int[] performanceRatings, int[] ratingChanges) {
+        this.players = players;
+        this.ratings = ratings;
+        this.gamesPlayed = gamesPlayed;
+        this.halfPoints = halfPoints;
+        this.expectedScores = expectedScores;
+        this.performanceRatings = performanceRatings;
+        this.ratingChanges = ratingChanges;
+    }
+
+    public int size() {
+        return ratings.length;
+    }
+
+    public TournamentPlayer player(int ordinal) {
+        return players.apply(ordinal);
+    }
+
+    public int gamesPlayed(int ordinal) {
+        return gamesPlayed[ordinal];
+    }
+
+    public double score(int ordinal) {
+        return halfPoints[ordinal] / 2.0;
+    }
+
+    public double expectedScore(int ordinal) {
+        return expectedScores[ordinal];
+    }
+
+    public int performanceRating(int ordinal) {
+        return performanceRatings[ordinal];
+    }
+
+    public int ratingChange(int ordinal) {
+        return ratingChanges[ordinal];
+    }
+
+    public int newRating(int ordinal) {
+        return ratings[ordinal] + ratingChanges[ordinal];
+    }
+
+    public List<RatingChange> asList() {
+        return new AbstractList<>() {
+            @Override
+            public RatingChange get(int ordinal) {
+                return new RatingChange(player(ordinal), gamesPlayed(ordinal), score(ordinal), expectedScore(ordinal),
+                        performanceRating(ordinal), ratingChange(ordinal), newRating(ordinal));
+            }
+
+            @Override
+            public int size() {
+                return ratings.length;
+            }
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.chess.tournament.domain.model;
+
+final class RatingIndex extends OrdinalTreap {
+
+    // Players ordered by rating descending then registration, with subtree counts for ranks
+    private final Roster roster;
+
+    RatingIndex(Roster roster) {
+        this.roster = roster;
+    }
+
+    private RatingIndex(RatingIndex source, Roster roster) {
+        super(source);
+        this.roster = roster;
+    }
+
+    RatingIndex copy(Roster roster) {
+        return new RatingIndex(this, roster);
+    }
+
+    void add(int ordinal) {
+        if (ordinal != size() || ordinal >= roster.size()) {
+            throw new IllegalArgumentException("Player ordinal " + ordinal + " is not the next registered player");
+        }
+        insert(ordinal);
+    }
+
+    @Override
+    int rank(int ordinal) {
+        if (ordinal < 0 || ordinal >= size()) {
+            throw new IllegalArgumentException("Player ordinal " + ordinal + " is not registered in this tournament");
+        }
+        return super.rank(ordinal);
+    }
+
+    int countRatedAbove(int rating) {
+        return countLeading(ordinal -> roster.rating(ordinal) > rating);
+    }
+
+    @Override
+    boolean before(int first, int second) {
+        int firstRating = roster.rating(first);
+        int secondRating = roster.rating(second);
+        return firstRating > secondRating || firstRating == secondRating && first < second;
+    }
+}
@@ -0,0 +1,213 @@
+package com.chess.tournament.domain.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class Roster {
+
+    private static final int EMPTY = 0;
+    private static final int MIN_SLOTS = 8;
+
+    // Players are stored column by column in registration order; slots hold ordinal + 1 in an open-addressing id index.
+    // Copies share the columns and the first copy to claim the next ordinal appends in place; any other copy reallocates
+    private long[] idHigh;
+    private long[] idLow;
+    private int[] ratings;
+    private int[] nameEnds;
+    private char[] names;
+    private int nameLength;
+    private int[] slots;
+    private int size;
+    private AtomicInteger frontier;
+
+    Roster() {
+        this(0);
+    }
+
+    Roster(int expectedPlayers) {
+        this.idHigh = new long[expectedPlayers];
+        this.idLow = new long[expectedPlayers];
+        this.ratings = new int[expectedPlayers];
+        this.nameEnds = new int[expectedPlayers];
+        this.names = new char[0];
+        this.slots = new int[slotsFor(expectedPlayers)];
+        this.frontier = new AtomicInteger();
+    }
+
+    private Roster(Roster source) {
+        this.idHigh = source.idHigh;
+        this.idLow = source.idLow;
+        this.ratings = source.ratings;
+        this.nameEnds = source.nameEnds;
+        this.names = source.names;
+        this.nameLength = source.nameLength;
+        this.slots = source.slots;
+        this.size = source.size;
+        this.frontier = source.frontier;
+    }
+
+    Roster copy() {
+        return new Roster(this);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int add(TournamentPlayer player) {
+        UUID id = player.id().value();
+        if (indexOf(id.getMostSignificantBits(), id.getLeastSignificantBits()) >= 0) {
+            throw new IllegalArgumentException("Player " + id + " is already on the roster");
+        }
+        String name = player.name();
+        ensureCapacity(size + 1);
+        if (!frontier.compareAndSet(size, size + 1)) {
+            reallocate(idHigh.length, slots.length);
+            frontier.set(size + 1);
+        }
+        if (nameLength + name.length() > names.length) {
+            names = Arrays.copyOf(names, Math.max(nameLength + name.length(), names.length + (names.length >> 1)));
+        }
+
+        idHigh[size] = id.getMostSignificantBits();
+        idLow[size] = id.getLeastSignificantBits();
+        ratings[size] = player.rating();
+        name.getChars(0, name.length(), names, nameLength);
+        nameLength += name.length();
+        nameEnds[size] = nameLength;
+        insert(size);
+        return size++;
+    }
+
+    int indexOf(PlayerId playerId) {
+        UUID id = playerId.value();
+        return indexOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    boolean contains(PlayerId playerId) {
+        return indexOf(playerId) >= 0;
+    }
+
+    PlayerId id(int ordinal) {
+        check(ordinal);
+        return new PlayerId(new UUID(idHigh[ordinal], idLow[ordinal]));
+    }
+
+    int rating(int ordinal) {
+        return ratings[check(ordinal)];
+    }
+
+    String name(int ordinal) {
+        int start = check(ordinal) == 0 ? 0 : nameEnds[ordinal - 1];
+        return new String(names, start, nameEnds[ordinal] - start);
+    }
+
+    TournamentPlayer get(int ordinal) {
+        return new TournamentPlayer(id(ordinal), name(ordinal), ratings[ordinal]);
+    }
+
+    List<TournamentPlayer> asList() {
+        return new Players();
+    }
+
+    List<TournamentPlayer> asList(int[] ordinals) {
+        return new Selection(ordinals);
+    }
+
+    void ensureCapacity(int players) {
+        if (players > idHigh.length || slotsFor(players) > slots.length) {
+            reallocate(Math.max(idHigh.length, Math.max(players, idHigh.length + (idHigh.length >> 1))), Math.max(slots.length, slotsFor(players)));
+        }
+    }
+
+    void trimToSize() {
+        if (idHigh.length > size || names.length > nameLength) {
+            reallocate(size, slots.length);
+        }
+    }
+
+    private void reallocate(int players, int slotCount) {
+        idHigh = Arrays.copyOf(idHigh, players);
+        idLow = Arrays.copyOf(idLow, players);
+        ratings = Arrays.copyOf(ratings, players);
+        nameEnds = Arrays.copyOf(nameEnds, players);
+        names = Arrays.copyOf(names, nameLength);
+        slots = new int[slotCount];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            insert(ordinal);
+        }
+        frontier = new AtomicInteger(size);
+    }
+
+    private int indexOf(long high, long low) {
+        int mask = slots.length - 1;
+        for (int slot = hash(high, low) & mask; slots[slot] != EMPTY; slot = (slot + 1) & mask) {
+            int ordinal = slots[slot] - 1;
+            if (ordinal < size && idHigh[ordinal] == high && idLow[ordinal] == low) {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(int ordinal) {
+        int mask = slots.length - 1;
+        int slot = hash(idHigh[ordinal], idLow[ordinal]) & mask;
+        while (slots[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = ordinal + 1;
+    }
+
+    private int check(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) {
+            throw new IllegalArgumentException("Player ordinal " + ordinal + " is not registered in this tournament");
+        }
+        return ordinal;
+    }
+
+    private static int hash(long high, long low) {
+        long mixed = (high ^ low) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 32);
+    }
+
+    private static int slotsFor(int players) {
+        return Math.max(MIN_SLOTS, Integer.highestOneBit(Math.max(1, players) * 2 - 1) << 1);
+    }
+
+    private final class Players extends AbstractList<TournamentPlayer> implements RandomAccess {
+
+        @Override
+        public TournamentPlayer get(int index) {
+            return Roster.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private final class Selection extends AbstractList<TournamentPlayer> implements RandomAccess {
+
+        private final int[] ordinals;
+
+        private Selection(int[] ordinals) {
+            this.ordinals = ordinals;
+        }
+
+        @Override
+        public TournamentPlayer get(int index) {
+            return Roster.this.get(ordinals[index]);
+        }
+
+        @Override
+        public int size() {
+            return ordinals.length;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.chess.tournament.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class Round {
+
+    public static final int BYE = -1;
+
+    private final int number;
+    private final int[] white;
+    private final int[] black;
+    private final GameResult[] results;
+    private final int playableBoards;
+    private final int reportedResults;
+
+    public Round(int number, int[] white, int[] black) {
+        if (number < 1) {
+            throw new IllegalArgumentException("Round number must be positive");
+        }
+        if (white.length != black.length) {
+            throw new IllegalArgumentException("Round " + number + " has " + white.length + " white players but " + black.length + " black players");
+        }
+        int playable = 0;
+        for (int board = 0; board < white.length; board++) {
+            if (white[board] < 0 || black[board] < BYE || white[board] == black[board]) {
+                throw new IllegalArgumentException("Board " + (board + 1) + " of round " + number + " has an invalid pairing");
+            }
+            if (black[board] != BYE) {
+                playable++;
+            }
+        }
+        this.number = number;
+        this.white = white.clone();
+        this.black = black.clone();
+        this.results = new GameResult[white.length];
+        this.playableBoards = playable;
+        this.reportedResults = 0;
+    }
+
+    private Round(int number, int[] white, int[] black, GameResult[] results, int playableBoards, int reportedResults) {
+        this.number = number;
+        this.white = white;
+        this.black = black;
+        this.results = results;
+        this.playableBoards = playableBoards;
+        this.reportedResults = reportedResults;
+    }
+
+    public static Round restore(int number, int[] white, int[] black, List<GameResult> results) {
+        var round = new Round(number, white, black);
+        if (results.size() != round.white.length) {
+            throw new IllegalArgumentException("Round " + number + " has " + round.white.length + " boards but " + results.size() + " results");
+        }
+
+        GameResult[] restored = new GameResult[results.size()];
+        int reported = 0;
+        for (int board = 0; board < restored.length; board++) {
+            GameResult result = results.get(board);
+            if (result != null) {
+                if (round.black[board] == BYE) {
+                    throw new IllegalArgumentException("Board " + (board + 1) + " of round " + number + " is a bye");
+                }
+                restored[board] = result;
+                reported++;
+            }
+        }
+        return new Round(number, round.white, round.black, restored, round.playableBoards, reported);
+    }
+
+    public Round withResult(int board, GameResult result) {
+        Objects.requireNonNull(result, "Game result cannot be null");
+        if (isBye(board)) {
+            throw new IllegalStateException("Board " + board + " of round " + number + " is a bye");
+        }
+        if (results[board - 1] != null) {
+            throw new IllegalStateException("Result for board " + board + " of round " + number + " is already recorded");
+        }
+
+        GameResult[] updated = results.clone();
+        updated[board - 1] = result;
+        return new Round(number, white, black, updated, playableBoards, reportedResults + 1);
+    }
+
+    public int boards() {
+        return white.length;
+    }
+
+    public int white(int board) {
+        return white[index(board)];
+    }
+
+    public int black(int board) {
+        return black[index(board)];
+    }
+
+    public boolean isBye(int board) {
+        return black(board) == BYE;
+    }
+
+    public Optional<GameResult> getResult(int board) {
+        return Optional.ofNullable(results[index(board)]);
+    }
+
+    public boolean isComplete() {
+        return reportedResults == playableBoards;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    private int index(int board) {
+        if (board < 1 || board > white.length) {
+            throw new IllegalArgumentException("Board must be between 1 and " + white.length + " in round " + number);
+        }
+        return board - 1;
+    }
+}
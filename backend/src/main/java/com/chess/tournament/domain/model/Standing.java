@@ -0,0 +1,4 @@
+package com.chess.tournament.domain.model;
+
+public record Standing(int rank, TournamentPlayer player, int gamesPlayed, double points, double buchholz, double medianBuchholz, double sonnebornBerger) {
+}
@@ -0,0 +1,233 @@
+package com.chess.tournament.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class Standings {
+
+    private static final int WIN = 2;
+    private static final int DRAW = 1;
+    private static final int NONE = -1;
+
+    private static final Comparator<Row> RANKING = Comparator.comparingInt(Row::halfPoints).reversed()
+                                                             .thenComparing(Comparator.comparingInt(Row::buchholz).reversed())
+                                                             .thenComparing(Comparator.comparingInt(Row::medianBuchholz).reversed())
+                                                             .thenComparing(Comparator.comparingInt(Row::sonnebornBerger).reversed())
+                                                             .thenComparing(Comparator.comparingInt(Row::rating).reversed())
+                                                             .thenComparingInt(Row::ordinal);
+
+    private final Roster roster;
+    private int[] halfPoints;
+    private int[] buchholz;
+    private int[] sonnebornBerger;
+    private int[] games;
+    private boolean[] receivedBye;
+    private int size;
+    // Every game adds one side per player; each side links to that player's previous side so a player's games form a list
+    private int[] lastSide;
+    private int[] sideOpponent;
+    private int[] sidePoints;
+    private int[] previousSide;
+    private int sides;
+    // Copies share every column: registering appends a player claimed through the frontier, while results need a private copy
+    private AtomicInteger frontier;
+    private boolean shared;
+    private volatile List<Standing> ranking;
+
+    Standings() {
+        this(new Roster());
+    }
+
+    Standings(Roster roster) {
+        this.roster = roster;
+        this.halfPoints = new int[roster.size()];
+        this.buchholz = new int[roster.size()];
+        this.sonnebornBerger = new int[roster.size()];
+        this.games = new int[roster.size()];
+        this.receivedBye = new boolean[roster.size()];
+        this.lastSide = new int[roster.size()];
+        this.sideOpponent = new int[0];
+        this.sidePoints = new int[0];
+        this.previousSide = new int[0];
+        this.frontier = new AtomicInteger();
+    }
+
+    private Standings(Standings source, Roster roster) {
+        this.roster = roster;
+        this.halfPoints = source.halfPoints;
+        this.buchholz = source.buchholz;
+        this.sonnebornBerger = source.sonnebornBerger;
+        this.games = source.games;
+        this.receivedBye = source.receivedBye;
+        this.size = source.size;
+        this.lastSide = source.lastSide;
+        this.sideOpponent = source.sideOpponent;
+        this.sidePoints = source.sidePoints;
+        this.previousSide = source.previousSide;
+        this.sides = source.sides;
+        this.frontier = source.frontier;
+        this.shared = true;
+        this.ranking = source.ranking;
+    }
+
+    Standings copy(Roster roster) {
+        shared = true;
+        return new Standings(this, roster);
+    }
+
+    void addPlayer(TournamentPlayer player) {
+        roster.add(player);
+        addRegisteredPlayer();
+    }
+
+    void addRegisteredPlayer() {
+        if (size >= roster.size()) {
+            throw new IllegalStateException("Every player on the roster already has a standing");
+        }
+        if (size == halfPoints.length) {
+            reallocate(Math.max(roster.size(), size + (size >> 1)));
+        }
+        if (!frontier.compareAndSet(size, size + 1)) {
+            reallocate(halfPoints.length);
+            frontier.set(size + 1);
+        }
+        halfPoints[size] = 0;
+        buchholz[size] = 0;
+        sonnebornBerger[size] = 0;
+        games[size] = 0;
+        receivedBye[size] = false;
+        lastSide[size++] = NONE;
+        ranking = null;
+    }
+
+    void recordBye(PlayerId playerId, boolean scored) {
+        int player = ordinal(playerId);
+        unshare();
+        receivedBye[player] = true;
+        addPoints(player, scored ? WIN : 0);
+        ranking = null;
+    }
+
+    void recordGame(PlayerId whitePlayer, PlayerId blackPlayer, GameResult result) {
+        int white = ordinal(whitePlayer);
+        int black = ordinal(blackPlayer);
+        int whitePoints = switch (result) {
+            case WHITE_WINS -> WIN;
+            case DRAW -> DRAW;
+            case BLACK_WINS -> 0;
+        };
+        int blackPoints = WIN - whitePoints;
+
+        unshare();
+        addPoints(white, whitePoints);
+        addPoints(black, blackPoints);
+        addGame(white, black, whitePoints);
+        addGame(black, white, blackPoints);
+        ranking = null;
+    }
+
+    private void addPoints(int player, int points) {
+        if (points == 0) {
+            return;
+        }
+        halfPoints[player] += points;
+        for (int side = lastSide[player]; side != NONE; side = previousSide[side]) {
+            int opponent = sideOpponent[side];
+            buchholz[opponent] += points;
+            sonnebornBerger[opponent] += points * (WIN - sidePoints[side]);
+        }
+    }
+
+    private void addGame(int player, int opponent, int points) {
+        if (sides == sideOpponent.length) {
+            int grown = Math.max(2 * size, sides + (sides >> 1) + 2);
+            sideOpponent = Arrays.copyOf(sideOpponent, grown);
+            sidePoints = Arrays.copyOf(sidePoints, grown);
+            previousSide = Arrays.copyOf(previousSide, grown);
+        }
+        sideOpponent[sides] = opponent;
+        sidePoints[sides] = points;
+        previousSide[sides] = lastSide[player];
+        lastSide[player] = sides++;
+        games[player]++;
+        buchholz[player] += halfPoints[opponent];
+        sonnebornBerger[player] += halfPoints[opponent] * points;
+    }
+
+    public List<Standing> ranking() {
+        List<Standing> cached = ranking;
+        if (cached != null) {
+            return cached;
+        }
+
+        List<Row> sorted = new ArrayList<>(size);
+        for (int player = 0; player < size; player++) {
+            sorted.add(new Row(player, halfPoints[player], buchholz[player], medianBuchholz(player), sonnebornBerger[player],
+                    roster.rating(player)));
+        }
+        sorted.sort(RANKING);
+        List<Standing> result = new ArrayList<>(sorted.size());
+        for (Row row : sorted) {
+            result.add(new Standing(result.size() + 1, roster.get(row.ordinal), games[row.ordinal], row.halfPoints / 2.0,
+                    row.buchholz / 2.0, row.medianBuchholz / 2.0, row.sonnebornBerger / 4.0));
+        }
+        cached = List.copyOf(result);
+        ranking = cached;
+        return cached;
+    }
+
+    public int ordinal(PlayerId playerId) {
+        int ordinal = roster.indexOf(playerId);
+        if (ordinal < 0 || ordinal >= size) {
+            throw new IllegalArgumentException("Player " + playerId.value() + " is not registered in this tournament");
+        }
+        return ordinal;
+    }
+
+    public int halfPoints(PlayerId playerId) {
+        return halfPoints[ordinal(playerId)];
+    }
+
+    public boolean hasReceivedBye(PlayerId playerId) {
+        return receivedBye[ordinal(playerId)];
+    }
+
+    private int medianBuchholz(int player) {
+        if (games[player] < 3) {
+            return 0;
+        }
+        int highest = Integer.MIN_VALUE;
+        int lowest = Integer.MAX_VALUE;
+        for (int side = lastSide[player]; side != NONE; side = previousSide[side]) {
+            highest = Math.max(highest, halfPoints[sideOpponent[side]]);
+            lowest = Math.min(lowest, halfPoints[sideOpponent[side]]);
+        }
+        return buchholz[player] - highest - lowest;
+    }
+
+    private void unshare() {
+        if (shared) {
+            reallocate(halfPoints.length);
+        }
+    }
+
+    private void reallocate(int players) {
+        halfPoints = Arrays.copyOf(halfPoints, players);
+        buchholz = Arrays.copyOf(buchholz, players);
+        sonnebornBerger = Arrays.copyOf(sonnebornBerger, players);
+        games = Arrays.copyOf(games, players);
+        receivedBye = Arrays.copyOf(receivedBye, players);
+        lastSide = Arrays.copyOf(lastSide, players);
+        sideOpponent = sideOpponent.clone();
+        sidePoints = sidePoints.clone();
+        previousSide = previousSide.clone();
+        frontier = new AtomicInteger(size);
+        shared = false;
+    }
+
+    private record Row(int ordinal, int halfPoints, int buchholz, int medianBuchholz, int sonnebornBerger, int rating) {
+    }
+}
@@ -1,35 +1,112 @@
 package com.chess.tournament.domain.model;
 
 import com.chess.tournament.application.exception.PlayerAlreadyRegisteredException;
+import com.chess.tournament.domain.service.PairingStrategy;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.regex.Pattern;
 
 public class Tournament {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     private final TournamentId id;
     private final String name;
     private final String description;
     private final LocalDate startDate;
     private final TournamentType type;
-    private final SequencedMap<PlayerId, TournamentPlayer> registeredPlayers;
+    private final Roster roster;
+    private final RatingIndex playersByRating;
+    private final NameIndex playersByName;
+    private List<Round> rounds;
+    private boolean roundsShared;
+    private final Standings standings;
+    private final PairingHistory history;
     private TournamentStatus status;
     private int currentRound;
+    private Bracket bracket;
+    private long version;
+    private final boolean readOnly;
 
-    private Tournament(String name, String description, LocalDate startDate, TournamentType type) {
-        this.id = TournamentId.generate();
+    private Tournament(TournamentId id, String name, String description, LocalDate startDate, TournamentType type) {
+        this.id = id;
         this.name = name;
         this.description = description;
         this.startDate = startDate;
         this.status = TournamentStatus.PLANNED;
         this.type = type;
-        this.registeredPlayers = new LinkedHashMap<>();
+        this.roster = new Roster();
+        this.playersByRating = new RatingIndex(roster);
+        this.playersByName = new NameIndex();
+        this.rounds = new ArrayList<>();
+        this.standings = new Standings(roster);
+        this.history = new PairingHistory();
         this.currentRound = 0;
+        this.version = 0;
+        this.readOnly = false;
+    }
+
+    private Tournament(Tournament source, boolean readOnly) {
+        this.id = source.id;
+        this.name = source.name;
+        this.description = source.description;
+        this.startDate = source.startDate;
+        this.type = source.type;
+        this.roster = source.roster.copy();
+        this.playersByRating = source.playersByRating.copy(roster);
+        this.playersByName = source.playersByName.copy();
+        this.rounds = source.rounds;
+        this.roundsShared = true;
+        source.roundsShared = true;
+        this.standings = source.standings.copy(roster);
+        this.history = source.history.copy();
+        this.status = source.status;
+        this.currentRound = source.currentRound;
+        this.bracket = source.bracket == null ? null : source.bracket.copy();
+        this.version = source.version;
+        this.readOnly = readOnly;
     }
 
     public static Tournament create(String name, String description, LocalDate startDate, TournamentType type) {
         validateTournamentData(name, startDate, type);
-        return new Tournament(name, description, startDate, type);
+        return new Tournament(TournamentId.generate(), name, description, startDate, type);
+    }
+
+    public static Tournament restore(TournamentId id, String name, String description, LocalDate startDate, TournamentType type,
+                                     TournamentStatus status, long version, Collection<TournamentPlayer> players, List<Round> rounds) {
+        var tournament = new Tournament(id, name, description, startDate, type);
+        tournament.roster.ensureCapacity(players.size());
+        tournament.playersByRating.ensureCapacity(players.size());
+        tournament.playersByName.ensureCapacity(players.size());
+        tournament.history.ensureCapacity(players.size());
+        for (TournamentPlayer player : players) {
+            tournament.addPlayer(player, normalizeName(player.name()));
+        }
+        for (Round round : rounds) {
+            for (int board = 1; board <= round.boards(); board++) {
+                if (round.white(board) >= tournament.roster.size() || round.black(board) >= tournament.roster.size()) {
+                    throw new IllegalArgumentException("Board " + board + " of round " + round.getNumber() + " references an unregistered player");
+                }
+            }
+        }
+        if (type == TournamentType.SINGLE_ELIMINATION && !rounds.isEmpty()) {
+            tournament.bracket = Bracket.restore(tournament.getPairings(rounds.getFirst()), tournament::findPlayer);
+        }
+        for (Round round : rounds) {
+            tournament.recordByes(round);
+            for (int board = 1; board <= round.boards(); board++) {
+                var result = round.getResult(board).orElse(null);
+                if (result != null) {
+                    tournament.applyResult(round, board, result);
+                }
+            }
+        }
+        tournament.rounds.addAll(rounds);
+        tournament.status = status;
+        tournament.currentRound = rounds.size();
+        tournament.version = version;
+        return tournament;
     }
 
     private static void validateTournamentData(String name, LocalDate startDate, TournamentType type) {
@@ -47,42 +124,329 @@ public class Tournament {
     }
 
     public void registerPlayer(PlayerId playerId, String playerName, int rating) {
-        validatePlayerRegistration(playerId, playerName);
-
+        ensureWritable();
+        ensureRegistrationOpen();
         var player = new TournamentPlayer(playerId, playerName, rating);
-        registeredPlayers.put(playerId, player);
+        String nameKey = normalizeName(playerName);
+        validatePlayerRegistration(player, nameKey);
+
+        addPlayer(player, nameKey);
     }
 
-    private void validatePlayerRegistration(PlayerId playerId, String playerName) {
-        if (registeredPlayers.containsKey(playerId)) {
-            throw new PlayerAlreadyRegisteredException(playerName);
+    public void registerPlayers(Collection<TournamentPlayer> players) {
+        ensureWritable();
+        ensureRegistrationOpen();
+        Set<PlayerId> batchIds = HashSet.newHashSet(players.size());
+        Set<String> batchNames = HashSet.newHashSet(players.size());
+        List<String> nameKeys = new ArrayList<>(players.size());
+        for (TournamentPlayer player : players) {
+            String nameKey = normalizeName(player.name());
+            validatePlayerRegistration(player, nameKey);
+            if (!batchIds.add(player.id()) || !batchNames.add(nameKey)) {
+                throw new PlayerAlreadyRegisteredException(player.name());
+            }
+            nameKeys.add(nameKey);
         }
 
-        boolean playerExists = registeredPlayers.values().stream().anyMatch(player -> player.name().equals(playerName));
+        roster.ensureCapacity(roster.size() + players.size());
+        playersByRating.ensureCapacity(roster.size() + players.size());
+        playersByName.ensureCapacity(roster.size() + players.size());
+        history.ensureCapacity(roster.size() + players.size());
+        int index = 0;
+        for (TournamentPlayer player : players) {
+            addPlayer(player, nameKeys.get(index++));
+        }
+    }
 
-        if (playerExists) {
-            throw new PlayerAlreadyRegisteredException(playerName);
+    // Rounds, the bracket and the round robin table are all laid out for the roster fixed at start
+    private void ensureRegistrationOpen() {
+        if (!status.canRegister()) {
+            throw new IllegalStateException("Players cannot be registered in current status: " + status);
         }
     }
 
+    private void validatePlayerRegistration(TournamentPlayer player, String nameKey) {
+        if (roster.contains(player.id()) || playersByName.contains(nameKey)) {
+            throw new PlayerAlreadyRegisteredException(player.name());
+        }
+    }
+
+    private void addPlayer(TournamentPlayer player, String nameKey) {
+        int ordinal = roster.add(player);
+        playersByRating.add(ordinal);
+        playersByName.add(ordinal, nameKey);
+        standings.addRegisteredPlayer();
+        history.addPlayer();
+    }
+
+    private static String normalizeName(String playerName) {
+        return WHITESPACE.matcher(playerName.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
     public void start() {
+        ensureWritable();
         if (!status.canStart()) {
             throw new IllegalStateException("Tournament cannot be started in current status: " + status);
         }
 
-        if (registeredPlayers.size() < 2) {
+        if (roster.size() < 2) {
             throw new IllegalStateException("Cannot start tournament with less than 2 players");
         }
 
         this.status = TournamentStatus.IN_PROGRESS;
+        roster.trimToSize();
+        playersByRating.trimToSize();
+        playersByName.trimToSize();
+        history.trimToSize();
+    }
+
+    public Round openNextRound(PairingStrategy strategy) {
+        ensureWritable();
+        if (status != TournamentStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Rounds can only be opened for a tournament in progress");
+        }
+
+        if (!rounds.isEmpty() && !rounds.getLast().isComplete()) {
+            throw new IllegalStateException("Round " + currentRound + " is still in progress");
+        }
+
+        if (currentRound >= getTotalRounds()) {
+            throw new IllegalStateException("All " + getTotalRounds() + " rounds have already been played");
+        }
+
+        var round = toRound(currentRound + 1, strategy.generatePairings(this, currentRound + 1));
+        writableRounds().add(round);
+        currentRound = round.getNumber();
+        recordByes(round);
+        return round;
+    }
+
+    public boolean isReadyForNextRound() {
+        return status == TournamentStatus.IN_PROGRESS && currentRound < getTotalRounds() && (rounds.isEmpty() || rounds.getLast().isComplete());
+    }
+
+    public int getTotalRounds() {
+        int players = roster.size();
+        if (players < 2) {
+            return 0;
+        }
+        return switch (type) {
+            case ROUND_ROBIN -> players + (players & 1) - 1;
+            case SINGLE_ELIMINATION, SWISS -> Integer.SIZE - Integer.numberOfLeadingZeros(players - 1);
+        };
+    }
+
+    private List<Round> writableRounds() {
+        if (roundsShared) {
+            rounds = new ArrayList<>(rounds);
+            roundsShared = false;
+        }
+        return rounds;
+    }
+
+    private Round toRound(int number, List<Pairing> pairings) {
+        int[] white = new int[pairings.size()];
+        int[] black = new int[pairings.size()];
+        for (int board = 0; board < pairings.size(); board++) {
+            var pairing = pairings.get(board);
+            white[board] = getOrdinal(pairing.whitePlayer());
+            black[board] = pairing.blackPlayer() == null ? Round.BYE : getOrdinal(pairing.blackPlayer());
+        }
+        return new Round(number, white, black);
+    }
+
+    private void recordByes(Round round) {
+        for (int board = 1; board <= round.boards(); board++) {
+            if (round.isBye(board)) {
+                standings.recordBye(roster.id(round.white(board)), type == TournamentType.SWISS);
+            }
+        }
+    }
+
+    public void recordResult(int roundNumber, int board, GameResult result) {
+        ensureWritable();
+        if (status != TournamentStatus.IN_PROGRESS || roundNumber != currentRound) {
+            throw new IllegalStateException("Results can only be recorded for the current round");
+        }
+
+        if (bracket != null && result == GameResult.DRAW) {
+            throw new IllegalArgumentException("Knockout games cannot end in a draw");
+        }
+
+        var round = rounds.getLast();
+        var updated = round.withResult(board, result);
+        applyResult(round, board, result);
+        writableRounds().set(rounds.size() - 1, updated);
+        if (updated.isComplete() && currentRound == getTotalRounds()) {
+            status = TournamentStatus.COMPLETED;
+        }
+    }
+
+    private void applyResult(Round round, int board, GameResult result) {
+        int white = round.white(board);
+        int black = round.black(board);
+        var whitePlayer = roster.id(white);
+        var blackPlayer = roster.id(black);
+        if (bracket != null) {
+            bracket.recordWinner(round.getNumber(), board, result == GameResult.WHITE_WINS ? whitePlayer : blackPlayer);
+        }
+        standings.recordGame(whitePlayer, blackPlayer, result);
+        history.recordGame(white, black);
+    }
+
+    public Optional<Round> getRound(int roundNumber) {
+        if (roundNumber < 1 || roundNumber > rounds.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(rounds.get(roundNumber - 1));
+    }
+
+    public List<Round> getRounds() {
+        return Collections.unmodifiableList(rounds);
+    }
+
+    public List<Pairing> getPairings(Round round) {
+        List<Pairing> pairings = new ArrayList<>(round.boards());
+        for (int board = 1; board <= round.boards(); board++) {
+            pairings.add(getPairing(round, board));
+        }
+        return Collections.unmodifiableList(pairings);
+    }
+
+    public Pairing getPairing(Round round, int board) {
+        int white = round.white(board);
+        if (round.isBye(board)) {
+            return new Pairing(roster.id(white), null, roster.name(white), null);
+        }
+        int black = round.black(board);
+        return new Pairing(roster.id(white), roster.id(black), roster.name(white), roster.name(black));
+    }
+
+    public TournamentPlayer getPlayer(int ordinal) {
+        return roster.get(ordinal);
+    }
+
+    public int getRating(int ordinal) {
+        return roster.rating(ordinal);
+    }
+
+    public int getOrdinal(PlayerId playerId) {
+        int ordinal = roster.indexOf(playerId);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Player " + playerId.value() + " is not registered in this tournament");
+        }
+        return ordinal;
+    }
+
+    private TournamentPlayer findPlayer(PlayerId playerId) {
+        int ordinal = roster.indexOf(playerId);
+        return ordinal < 0 ? null : roster.get(ordinal);
+    }
+
+    public Standings getStandings() {
+        return standings;
+    }
+
+    public PairingHistory getPairingHistory() {
+        return readOnly ? history.copy() : history;
     }
 
     public Collection<TournamentPlayer> getRegisteredPlayers() {
-        return Collections.unmodifiableCollection(registeredPlayers.values());
+        return roster.asList();
+    }
+
+    public Collection<TournamentPlayer> getRegisteredPlayers(PlayerOrder order) {
+        return switch (order) {
+            case REGISTRATION -> roster.asList();
+            case RATING -> getSeeds(BracketSeeding.RATING);
+            case NAME -> roster.asList(playersByName.ordinals(0, playersByName.size()));
+        };
+    }
+
+    public List<TournamentPlayer> getRegisteredPlayers(PlayerOrder order, PlayerId after, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        int position = after == null ? 0 : getOrdinal(after) + 1;
+        if (order == PlayerOrder.REGISTRATION) {
+            return List.copyOf(roster.asList().subList(position, Math.min(roster.size(), position + limit)));
+        }
+        if (order == PlayerOrder.RATING) {
+            int from = after == null ? 0 : playersByRating.rank(position - 1) + 1;
+            return List.copyOf(roster.asList(playersByRating.ordinals(from, Math.min(playersByRating.size(), from + limit))));
+        }
+        int from = after == null ? 0 : playersByName.rank(position - 1) + 1;
+        return List.copyOf(roster.asList(playersByName.ordinals(from, Math.min(playersByName.size(), from + limit))));
+    }
+
+    public List<TournamentPlayer> getSeeds(BracketSeeding seeding) {
+        return switch (seeding) {
+            case REGISTRATION_ORDER -> roster.asList();
+            case RATING -> roster.asList(playersByRating.ordinals(0, playersByRating.size()));
+        };
+    }
+
+    public List<TournamentPlayer> getSeeds(int fromSeed, int toSeed) {
+        if (fromSeed < 1 || toSeed < fromSeed - 1) {
+            throw new IllegalArgumentException("Seeds must start at 1 and end no earlier than they start");
+        }
+        return roster.asList(playersByRating.ordinals(Math.min(fromSeed - 1, playersByRating.size()), Math.min(toSeed, playersByRating.size())));
+    }
+
+    public List<TournamentPlayer> getPlayersRatedBetween(int minRating, int maxRating) {
+        if (minRating > maxRating) {
+            throw new IllegalArgumentException("Minimum rating cannot be above maximum rating");
+        }
+        int from = playersByRating.countRatedAbove(maxRating);
+        int to = minRating == Integer.MIN_VALUE ? playersByRating.size() : playersByRating.countRatedAbove(minRating - 1);
+        return roster.asList(playersByRating.ordinals(from, to));
+    }
+
+    public int getSeed(PlayerId playerId) {
+        return playersByRating.rank(getOrdinal(playerId)) + 1;
+    }
+
+    public Bracket bracket(BracketSeeding seeding) {
+        if (bracket != null) {
+            return bracket;
+        }
+
+        var drawn = Bracket.draw(getSeeds(seeding));
+        if (status == TournamentStatus.IN_PROGRESS && !readOnly) {
+            bracket = drawn;
+        }
+        return drawn;
+    }
+
+    public Optional<Bracket> getBracket() {
+        return Optional.ofNullable(bracket);
+    }
+
+    public Tournament copy() {
+        return new Tournament(this, false);
+    }
+
+    public Tournament snapshot() {
+        return readOnly ? this : new Tournament(this, true);
+    }
+
+    public void markSaved(long version) {
+        ensureWritable();
+        this.version = version;
+    }
+
+    private void ensureWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("Tournament snapshot is read-only");
+        }
     }
 
     public boolean isPlayerRegistered(PlayerId playerId) {
-        return registeredPlayers.containsKey(playerId);
+        return roster.contains(playerId);
+    }
+
+    public boolean isNameRegistered(String playerName) {
+        return playerName != null && playersByName.contains(normalizeName(playerName));
     }
 
     public TournamentId getId() {
@@ -112,4 +476,12 @@ public class Tournament {
     public int getCurrentRound() {
         return currentRound;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
 }
@@ -0,0 +1,22 @@
+package com.chess.tournament.domain.model;
+
+import java.util.List;
+
+public sealed interface TournamentEvent {
+
+    TournamentId tournamentId();
+
+    long version();
+
+    record PlayersRegistered(TournamentId tournamentId, long version, List<TournamentPlayer> players) implements TournamentEvent {
+    }
+
+    record TournamentStarted(TournamentId tournamentId, long version) implements TournamentEvent {
+    }
+
+    record PairingsPublished(TournamentId tournamentId, long version, int round, List<Pairing> pairings) implements TournamentEvent {
+    }
+
+    record ResultRecorded(TournamentId tournamentId, long version, int round, int board, GameResult result) implements TournamentEvent {
+    }
+}
@@ -19,4 +19,8 @@ public enum TournamentStatus {
     public boolean canStart() {
         return PLANNED == this;
     }
+
+    public boolean canRegister() {
+        return PLANNED == this;
+    }
 }
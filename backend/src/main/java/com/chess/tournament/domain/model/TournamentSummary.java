@@ -0,0 +1,11 @@
+package com.chess.tournament.domain.model;
+
+import java.time.LocalDate;
+
+public record TournamentSummary(TournamentId id, String name, String description, LocalDate startDate, TournamentType type, TournamentStatus status) {
+
+    public static TournamentSummary of(Tournament tournament) {
+        return new TournamentSummary(tournament.getId(), tournament.getName(), tournament.getDescription(), tournament.getStartDate(),
+                tournament.getType(), tournament.getStatus());
+    }
+}
@@ -3,7 +3,8 @@ package com.chess.tournament.domain.model;
 public enum TournamentType {
 
     ROUND_ROBIN("Round Robin"),
-    SINGLE_ELIMINATION("Single Elimination");
+    SINGLE_ELIMINATION("Single Elimination"),
+    SWISS("Swiss System");
 
     private final String description;
 
@@ -14,4 +15,4 @@ public enum TournamentType {
     public String getDescription() {
         return description;
     }
-}
\ No newline at end of file
+}
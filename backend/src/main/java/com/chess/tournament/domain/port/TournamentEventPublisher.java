@@ -0,0 +1,9 @@
+package com.chess.tournament.domain.port;
+
+import com.chess.tournament.domain.model.TournamentEvent;
+
+@FunctionalInterface
+public interface TournamentEventPublisher {
+
+    void publish(TournamentEvent event);
+}
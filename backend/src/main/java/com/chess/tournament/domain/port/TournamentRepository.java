@@ -2,12 +2,38 @@ package com.chess.tournament.domain.port;
 
 import com.chess.tournament.domain.model.Tournament;
 import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentSummary;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 public interface TournamentRepository {
 
     Tournament save(Tournament tournament);
 
     Optional<Tournament> findById(TournamentId tournamentId);
-}
\ No newline at end of file
+
+    default Optional<Tournament> findSnapshotById(TournamentId tournamentId) {
+        return findById(tournamentId).map(Tournament::snapshot);
+    }
+
+    default OptionalLong findVersionById(TournamentId tournamentId) {
+        return findSnapshotById(tournamentId).map(tournament -> OptionalLong.of(tournament.getVersion())).orElse(OptionalLong.empty());
+    }
+
+    Map<TournamentStatus, Long> countByStatus();
+
+    default long countByStatus(TournamentStatus status) {
+        return countByStatus().getOrDefault(status, 0L);
+    }
+
+    List<TournamentSummary> findByStatus(TournamentStatus status, TournamentId after, int limit);
+
+    List<TournamentSummary> findByStartDateBetween(LocalDate from, LocalDate to, TournamentId after, int limit);
+
+    List<TournamentSummary> findByNamePrefix(String prefix, TournamentId after, int limit);
+}
@@ -0,0 +1,52 @@
+package com.chess.tournament.domain.service;
+
+final class BergerTable {
+
+    // Every round follows from the table size alone, so nothing is cached and each caller gets its own boards
+    private final int size;
+
+    private BergerTable(int size) {
+        this.size = size;
+    }
+
+    static BergerTable forPlayers(int numberOfPlayers) {
+        if (numberOfPlayers < 2) {
+            throw new IllegalArgumentException("Berger table requires at least 2 players");
+        }
+        int size = numberOfPlayers + (numberOfPlayers & 1);
+        return new BergerTable(size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int numberOfRounds() {
+        return size - 1;
+    }
+
+    int[] round(int round) {
+        if (round < 1 || round > numberOfRounds()) {
+            throw new IllegalArgumentException("Round must be between 1 and " + numberOfRounds() + " for " + size + " players");
+        }
+        int rotating = size - 1;
+        int fixedPartner = (int) ((long) (round + 1) * (size / 2) % rotating);
+        if (fixedPartner == 0) {
+            fixedPartner = rotating;
+        }
+
+        int[] boards = new int[size];
+        boolean oddRound = round % 2 == 1;
+        boards[0] = (oddRound ? fixedPartner : size) - 1;
+        boards[1] = (oddRound ? size : fixedPartner) - 1;
+        for (int table = 1; table < size / 2; table++) {
+            boards[2 * table] = wrap(fixedPartner + table, rotating) - 1;
+            boards[2 * table + 1] = wrap(fixedPartner - table, rotating) - 1;
+        }
+        return boards;
+    }
+
+    private static int wrap(int position, int rotating) {
+        return Math.floorMod(position - 1, rotating) + 1;
+    }
+}
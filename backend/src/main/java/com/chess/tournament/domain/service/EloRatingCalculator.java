@@ -0,0 +1,112 @@
+package com.chess.tournament.domain.service;
+
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.RatingChanges;
+import com.chess.tournament.domain.model.Round;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentPlayer;
+
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+public class EloRatingCalculator {
+
+    private static final int PARALLEL_THRESHOLD = 16_384;
+    private static final int CHUNK_SIZE = 4_096;
+    private static final int HIGH_RATING = 2400;
+    private static final int K_FACTOR = 20;
+    private static final int HIGH_RATING_K_FACTOR = 10;
+    private static final double LN_10_OVER_400 = Math.log(10) / 400;
+
+    public RatingChanges calculate(Tournament tournament) {
+        int[] ratings = new int[tournament.getRegisteredPlayers().size()];
+        for (int ordinal = 0; ordinal < ratings.length; ordinal++) {
+            ratings[ordinal] = tournament.getRating(ordinal);
+        }
+
+        int games = 0;
+        for (Round round : tournament.getRounds()) {
+            games += round.boards();
+        }
+        int[] white = new int[games];
+        int[] black = new int[games];
+        int[] whiteHalfPoints = new int[games];
+
+        int played = 0;
+        for (Round round : tournament.getRounds()) {
+            for (int board = 1; board <= round.boards(); board++) {
+                GameResult result = round.getResult(board).orElse(null);
+                if (result == null) {
+                    continue;
+                }
+                white[played] = round.white(board);
+                black[played] = round.black(board);
+                whiteHalfPoints[played] = switch (result) {
+                    case WHITE_WINS -> 2;
+                    case DRAW -> 1;
+                    case BLACK_WINS -> 0;
+                };
+                played++;
+            }
+        }
+        return calculate(tournament::getPlayer, ratings, white, black, whiteHalfPoints, played);
+    }
+
+    RatingChanges calculate(IntFunction<TournamentPlayer> players, int[] ratings, int[] white, int[] black, int[] whiteHalfPoints, int games) {
+        int size = ratings.length;
+        double[] whiteExpected = new double[games];
+        forEachRange(games, (from, to) -> {
+            for (int game = from; game < to; game++) {
+                whiteExpected[game] = 1.0 / (1.0 + Math.exp((ratings[black[game]] - ratings[white[game]]) * LN_10_OVER_400));
+            }
+        });
+
+        int[] gamesPlayed = new int[size];
+        int[] halfPoints = new int[size];
+        long[] opponentRatings = new long[size];
+        double[] expectedScores = new double[size];
+        for (int game = 0; game < games; game++) {
+            int w = white[game];
+            int b = black[game];
+            gamesPlayed[w]++;
+            gamesPlayed[b]++;
+            halfPoints[w] += whiteHalfPoints[game];
+            halfPoints[b] += 2 - whiteHalfPoints[game];
+            opponentRatings[w] += ratings[b];
+            opponentRatings[b] += ratings[w];
+            expectedScores[w] += whiteExpected[game];
+            expectedScores[b] += 1.0 - whiteExpected[game];
+        }
+
+        int[] performanceRatings = new int[size];
+        int[] ratingChanges = new int[size];
+        forEachRange(size, (from, to) -> {
+            for (int player = from; player < to; player++) {
+                int played = gamesPlayed[player];
+                if (played == 0) {
+                    performanceRatings[player] = ratings[player];
+                    continue;
+                }
+                int kFactor = ratings[player] >= HIGH_RATING ? HIGH_RATING_K_FACTOR : K_FACTOR;
+                performanceRatings[player] = (int) Math.round((opponentRatings[player] + 400.0 * (halfPoints[player] - played)) / played);
+                ratingChanges[player] = (int) Math.round(kFactor * (halfPoints[player] / 2.0 - expectedScores[player]));
+            }
+        });
+
+        return new RatingChanges(players, ratings, gamesPlayed, halfPoints, expectedScores, performanceRatings, ratingChanges);
+    }
+
+    private static void forEachRange(int size, RangeTask task) {
+        if (size < PARALLEL_THRESHOLD) {
+            task.run(0, size);
+            return;
+        }
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> task.run(chunk * CHUNK_SIZE, Math.min(size, (chunk + 1) * CHUNK_SIZE)));
+    }
+
+    @FunctionalInterface
+    private interface RangeTask {
+        void run(int from, int to);
+    }
+}
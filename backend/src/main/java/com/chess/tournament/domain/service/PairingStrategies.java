@@ -0,0 +1,37 @@
+package com.chess.tournament.domain.service;
+
+import com.chess.tournament.domain.model.BracketSeeding;
+import com.chess.tournament.domain.model.TournamentType;
+
+import java.util.function.Function;
+
+public final class PairingStrategies {
+
+    private static final PairingStrategy[] ROUND_ROBIN = bySeeding(RoundRobinStrategy::new);
+    private static final PairingStrategy[] SINGLE_ELIMINATION = bySeeding(SingleEliminationStrategy::new);
+    private static final PairingStrategy SWISS = new SwissStrategy();
+
+    private PairingStrategies() {
+    }
+
+    public static PairingStrategy forType(TournamentType type) {
+        return forType(type, BracketSeeding.REGISTRATION_ORDER);
+    }
+
+    public static PairingStrategy forType(TournamentType type, BracketSeeding seeding) {
+        return switch (type) {
+            case ROUND_ROBIN -> ROUND_ROBIN[seeding.ordinal()];
+            case SINGLE_ELIMINATION -> SINGLE_ELIMINATION[seeding.ordinal()];
+            case SWISS -> SWISS;
+        };
+    }
+
+    private static PairingStrategy[] bySeeding(Function<BracketSeeding, PairingStrategy> factory) {
+        BracketSeeding[] seedings = BracketSeeding.values();
+        PairingStrategy[] strategies = new PairingStrategy[seedings.length];
+        for (BracketSeeding seeding : seedings) {
+            strategies[seeding.ordinal()] = factory.apply(seeding);
+        }
+        return strategies;
+    }
+}
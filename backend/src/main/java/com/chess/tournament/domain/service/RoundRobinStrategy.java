@@ -1,41 +1,51 @@
 package com.chess.tournament.domain.service;
 
 
+import com.chess.tournament.domain.model.BracketSeeding;
 import com.chess.tournament.domain.model.Pairing;
 import com.chess.tournament.domain.model.Tournament;
 import com.chess.tournament.domain.model.TournamentPlayer;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class RoundRobinStrategy implements PairingStrategy {
 
-    @Override
-    public List<Pairing> generatePairings(Tournament tournament, int round) {
+    private final BracketSeeding seeding;
 
-        //TODO works only for first round
-        List<TournamentPlayer> players = new ArrayList<>(tournament.getRegisteredPlayers());
-        List<Pairing> pairings = new ArrayList<>();
+    public RoundRobinStrategy() {
+        this(BracketSeeding.REGISTRATION_ORDER);
+    }
 
-        int numPlayers = players.size();
-        boolean isOddNumPlayers = numPlayers % 2 == 1;
-        int numPairs = isOddNumPlayers ? (numPlayers + 1) / 2 : numPlayers / 2;
+    public RoundRobinStrategy(BracketSeeding seeding) {
+        this.seeding = Objects.requireNonNull(seeding, "Seeding cannot be null");
+    }
 
-        if(numPlayers <= 1) {
+    @Override
+    public List<Pairing> generatePairings(Tournament tournament, int round) {
+        TournamentPlayer[] players = tournament.getSeeds(seeding).toArray(new TournamentPlayer[0]);
+        int numPlayers = players.length;
+
+        if (numPlayers <= 1) {
             return new ArrayList<>();
         }
 
-        for (int i = 0; i < numPairs; i++) {
-            if (i == 0 && isOddNumPlayers) {
-                var player = players.get(i);
+        int[] boards = BergerTable.forPlayers(numPlayers).round(round);
+        List<Pairing> pairings = new ArrayList<>(boards.length / 2);
+
+        for (int i = 0; i < boards.length; i += 2) {
+            int white = boards[i];
+            int black = boards[i + 1];
+            if (white >= numPlayers || black >= numPlayers) {
+                var player = players[Math.min(white, black)];
                 pairings.add(new Pairing(player.id(), null, player.name(), null));
             } else {
-                var player1 = players.get(i);
-                var player2 = players.get(numPlayers - i - 1);
+                var player1 = players[white];
+                var player2 = players[black];
                 pairings.add(new Pairing(player1.id(), player2.id(), player1.name(), player2.name()));
             }
-
         }
         return pairings;
     }
-}
\ No newline at end of file
+}
@@ -1,48 +1,30 @@
 package com.chess.tournament.domain.service;
 
+import com.chess.tournament.domain.model.BracketSeeding;
 import com.chess.tournament.domain.model.Pairing;
 import com.chess.tournament.domain.model.Tournament;
-import com.chess.tournament.domain.model.TournamentPlayer;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class SingleEliminationStrategy implements PairingStrategy {
 
-    @Override
-    public List<Pairing> generatePairings(Tournament tournament, int round) {
-
-        //TODO works only for first round
-        List<TournamentPlayer> players = new ArrayList<>(tournament.getRegisteredPlayers());
-        List<Pairing> pairings = new ArrayList<>();
-
-        int numPlayers = players.size();
-        int bracketSize = calculateBracketSize(numPlayers);
-        int numbByes = bracketSize - numPlayers;
-
-        if(numPlayers <= 1) {
-            return new ArrayList<>();
-        }
+    private final BracketSeeding seeding;
 
-        for (int i = 0; i < bracketSize / 2; i++) {
-            if (i < numbByes) {
-                var player = players.get(i);
-                pairings.add(new Pairing(player.id(), null, player.name(), null));
-            } else {
-                var player1 = players.get(i);
-                var player2 = players.get(bracketSize - i - 1);
-                pairings.add(new Pairing(player1.id(), player2.id(), player1.name(), player2.name()));
-            }
-        }
+    public SingleEliminationStrategy() {
+        this(BracketSeeding.REGISTRATION_ORDER);
+    }
 
-        return pairings;
+    public SingleEliminationStrategy(BracketSeeding seeding) {
+        this.seeding = Objects.requireNonNull(seeding, "Bracket seeding cannot be null");
     }
 
-    private int calculateBracketSize(int numberOfPlayers) {
-        if (numberOfPlayers == Integer.highestOneBit(numberOfPlayers)) {
-            return numberOfPlayers;
+    @Override
+    public List<Pairing> generatePairings(Tournament tournament, int round) {
+        if (tournament.getRegisteredPlayers().size() <= 1) {
+            return new ArrayList<>();
         }
-        return (Integer.highestOneBit(numberOfPlayers) << 1);
-
+        return tournament.bracket(seeding).pairings(round);
     }
 }
@@ -0,0 +1,39 @@
+package com.chess.tournament.domain.service;
+
+import com.chess.tournament.domain.model.PairingHistory;
+import com.chess.tournament.domain.model.TournamentPlayer;
+
+import java.util.Objects;
+
+record SwissEntrant(TournamentPlayer player, int ordinal, int halfPoints, int colourDifference, int colourStreak, boolean receivedBye) {
+
+    static final int WHITE = 1;
+    static final int BLACK = -1;
+    static final int NO_PREFERENCE = 0;
+
+    SwissEntrant {
+        Objects.requireNonNull(player, "Player cannot be null");
+    }
+
+    boolean hasPlayed(SwissEntrant other, PairingHistory history) {
+        return history.haveMet(ordinal, other.ordinal);
+    }
+
+    int colourPreference() {
+        if (colourDifference < 0 || (colourDifference == 0 && colourStreak < 0)) {
+            return WHITE;
+        }
+        if (colourDifference > 0 || colourStreak > 0) {
+            return BLACK;
+        }
+        return NO_PREFERENCE;
+    }
+
+    int colourPreferenceStrength() {
+        return Math.abs(colourDifference) * 4 + Math.abs(colourStreak);
+    }
+
+    boolean hasAbsoluteColourPreference() {
+        return Math.abs(colourDifference) > 1 || Math.abs(colourStreak) > 1;
+    }
+}
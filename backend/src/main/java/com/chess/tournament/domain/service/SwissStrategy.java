@@ -0,0 +1,479 @@
+package com.chess.tournament.domain.service;
+
+import com.chess.tournament.domain.model.Pairing;
+import com.chess.tournament.domain.model.PairingHistory;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentPlayer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+public class SwissStrategy implements PairingStrategy {
+
+    private static final int SEARCH_BUDGET = 50_000;
+
+    private static final Comparator<SwissEntrant> RANKING = Comparator.comparingInt(SwissEntrant::halfPoints).reversed()
+                                                                      .thenComparing(Comparator.comparingInt((SwissEntrant entrant) -> entrant.player().rating()).reversed());
+
+    @Override
+    public List<Pairing> generatePairings(Tournament tournament, int round) {
+        var standings = tournament.getStandings();
+        var history = tournament.getPairingHistory();
+        List<SwissEntrant> entrants = new ArrayList<>(tournament.getRegisteredPlayers().size());
+        int ordinal = 0;
+        for (TournamentPlayer player : tournament.getRegisteredPlayers()) {
+            var id = player.id();
+            entrants.add(new SwissEntrant(player, ordinal, standings.halfPoints(id), history.colourDifference(ordinal),
+                    history.colourStreak(ordinal), standings.hasReceivedBye(id)));
+            ordinal++;
+        }
+        return pair(entrants, history);
+    }
+
+    List<Pairing> pair(List<SwissEntrant> entrants, PairingHistory history) {
+        if (entrants.size() <= 1) {
+            return new ArrayList<>();
+        }
+
+        List<SwissEntrant> ranked = new ArrayList<>(entrants);
+        ranked.sort(RANKING);
+        SwissEntrant byePlayer = ranked.size() % 2 == 1 ? removeByePlayer(ranked) : null;
+
+        List<List<SwissEntrant[]>> brackets = new ArrayList<>();
+        List<SwissEntrant> floaters = new ArrayList<>();
+        int groupStart = 0;
+        while (groupStart < ranked.size()) {
+            int groupEnd = scoreGroupEnd(ranked, groupStart);
+            List<SwissEntrant> bracket = new ArrayList<>(floaters.size() + groupEnd - groupStart);
+            bracket.addAll(floaters);
+            bracket.addAll(ranked.subList(groupStart, groupEnd));
+            List<SwissEntrant[]> games = new ArrayList<>(bracket.size() / 2);
+            floaters = pairBracket(bracket, games, history);
+            brackets.add(games);
+            groupStart = groupEnd;
+        }
+        if (!floaters.isEmpty()) {
+            pairLeftovers(floaters, brackets, history);
+        }
+
+        List<Pairing> pairings = new ArrayList<>(ranked.size() / 2 + 1);
+        for (List<SwissEntrant[]> games : brackets) {
+            for (SwissEntrant[] game : games) {
+                pairings.add(orient(game[0], game[1], pairings.size()));
+            }
+        }
+        if (byePlayer != null) {
+            var player = byePlayer.player();
+            pairings.add(new Pairing(player.id(), null, player.name(), null));
+        }
+        return pairings;
+    }
+
+    private static int scoreGroupEnd(List<SwissEntrant> ranked, int groupStart) {
+        int halfPoints = ranked.get(groupStart).halfPoints();
+        int groupEnd = groupStart + 1;
+        while (groupEnd < ranked.size() && ranked.get(groupEnd).halfPoints() == halfPoints) {
+            groupEnd++;
+        }
+        return groupEnd;
+    }
+
+    private static SwissEntrant removeByePlayer(List<SwissEntrant> ranked) {
+        for (int i = ranked.size() - 1; i >= 0; i--) {
+            if (!ranked.get(i).receivedBye()) {
+                return ranked.remove(i);
+            }
+        }
+        return ranked.removeLast();
+    }
+
+    private static List<SwissEntrant> pairBracket(List<SwissEntrant> bracket, List<SwissEntrant[]> games, PairingHistory history) {
+        List<SwissEntrant> unpaired = pairHalves(bracket, games, history);
+        int fewestFloaters = bracket.size() % 2;
+        if (unpaired.size() == fewestFloaters) {
+            return unpaired;
+        }
+
+        var search = new MatchSearch(bracket, (first, second) -> isCompatible(first, second, history));
+        for (int floaters = fewestFloaters; floaters < unpaired.size(); floaters += 2) {
+            if (search.run(floaters)) {
+                games.clear();
+                return search.collect(games);
+            }
+        }
+        return unpaired;
+    }
+
+    private static List<SwissEntrant> pairHalves(List<SwissEntrant> bracket, List<SwissEntrant[]> games, PairingHistory history) {
+        int half = bracket.size() / 2;
+        List<SwissEntrant> upperHalf = bracket.subList(0, half);
+        List<SwissEntrant> lowerHalf = bracket.subList(half, bracket.size());
+        boolean[] taken = new boolean[lowerHalf.size()];
+        List<SwissEntrant> unpaired = new ArrayList<>();
+
+        for (int i = 0; i < upperHalf.size(); i++) {
+            SwissEntrant upper = upperHalf.get(i);
+            int opponent = findOpponent(upper, lowerHalf, taken, i, history);
+            if (opponent < 0) {
+                unpaired.add(upper);
+            } else {
+                taken[opponent] = true;
+                games.add(new SwissEntrant[]{upper, lowerHalf.get(opponent)});
+            }
+        }
+        for (int i = 0; i < lowerHalf.size(); i++) {
+            if (!taken[i]) {
+                unpaired.add(lowerHalf.get(i));
+            }
+        }
+        unpaired.sort(RANKING);
+        return unpaired;
+    }
+
+    private static int findOpponent(SwissEntrant upper, List<SwissEntrant> lowerHalf, boolean[] taken, int naturalPosition, PairingHistory history) {
+        int size = lowerHalf.size();
+        for (int step = 0; step < size; step++) {
+            int candidate = (naturalPosition + step) % size;
+            if (!taken[candidate] && isCompatible(upper, lowerHalf.get(candidate), history)) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    private static void pairLeftovers(List<SwissEntrant> leftovers, List<List<SwissEntrant[]>> brackets, PairingHistory history) {
+        BiPredicate<SwissEntrant, SwissEntrant> notYetMet = (first, second) -> !first.hasPlayed(second, history);
+        List<SwissEntrant> pool = new ArrayList<>(leftovers);
+        for (int reopened = brackets.size(); reopened >= 0; reopened--) {
+            if (reopened < brackets.size()) {
+                if (brackets.get(reopened).isEmpty()) {
+                    continue;
+                }
+                for (SwissEntrant[] game : brackets.get(reopened)) {
+                    pool.add(game[0]);
+                    pool.add(game[1]);
+                }
+                pool.sort(RANKING);
+            }
+
+            var search = new MatchSearch(pool, notYetMet);
+            List<SwissEntrant[]> games = new ArrayList<>(pool.size() / 2);
+            boolean paired = search.run(0);
+            if (paired) {
+                search.collect(games);
+            } else if (search.exhausted()) {
+                // The search gave up before proving no pairing exists, so settle it exactly before allowing rematches
+                paired = new MaximumMatching(pool, notYetMet).run(games);
+            }
+            if (paired) {
+                brackets.subList(reopened, brackets.size()).clear();
+                brackets.add(games);
+                return;
+            }
+        }
+
+        List<SwissEntrant[]> games = new ArrayList<>(leftovers.size() / 2);
+        boolean[] taken = new boolean[leftovers.size()];
+        for (boolean allowRematch : new boolean[]{false, true}) {
+            for (int i = 0; i < leftovers.size(); i++) {
+                if (taken[i]) {
+                    continue;
+                }
+                for (int j = i + 1; j < leftovers.size(); j++) {
+                    if (!taken[j] && (allowRematch || notYetMet.test(leftovers.get(i), leftovers.get(j)))) {
+                        taken[i] = true;
+                        taken[j] = true;
+                        games.add(new SwissEntrant[]{leftovers.get(i), leftovers.get(j)});
+                        break;
+                    }
+                }
+            }
+        }
+        brackets.add(games);
+    }
+
+    private static boolean isCompatible(SwissEntrant first, SwissEntrant second, PairingHistory history) {
+        if (first.hasPlayed(second, history)) {
+            return false;
+        }
+        boolean bothAbsolute = first.hasAbsoluteColourPreference() && second.hasAbsoluteColourPreference();
+        return !bothAbsolute || first.colourPreference() != second.colourPreference();
+    }
+
+    private static Pairing orient(SwissEntrant higher, SwissEntrant lower, int board) {
+        int higherPreference = higher.colourPreference();
+        int lowerPreference = lower.colourPreference();
+
+        boolean higherTakesWhite;
+        if (higherPreference == SwissEntrant.NO_PREFERENCE && lowerPreference == SwissEntrant.NO_PREFERENCE) {
+            higherTakesWhite = board % 2 == 0;
+        } else if (higherPreference == SwissEntrant.NO_PREFERENCE) {
+            higherTakesWhite = lowerPreference == SwissEntrant.BLACK;
+        } else if (lowerPreference == SwissEntrant.NO_PREFERENCE || higherPreference != lowerPreference) {
+            higherTakesWhite = higherPreference == SwissEntrant.WHITE;
+        } else if (lower.colourPreferenceStrength() > higher.colourPreferenceStrength()) {
+            higherTakesWhite = lowerPreference == SwissEntrant.BLACK;
+        } else {
+            higherTakesWhite = higherPreference == SwissEntrant.WHITE;
+        }
+
+        TournamentPlayer white = higherTakesWhite ? higher.player() : lower.player();
+        TournamentPlayer black = higherTakesWhite ? lower.player() : higher.player();
+        return new Pairing(white.id(), black.id(), white.name(), black.name());
+    }
+
+    // Depth-first search over ranked players for a matching with exactly the given number of floaters, natural opponent first
+    private static final class MatchSearch {
+
+        private static final int UNMATCHED = -1;
+        private static final int FLOATED = -2;
+
+        private final List<SwissEntrant> players;
+        private final BiPredicate<SwissEntrant, SwissEntrant> compatible;
+        private final int[] partners;
+        private int comparisons;
+
+        private MatchSearch(List<SwissEntrant> players, BiPredicate<SwissEntrant, SwissEntrant> compatible) {
+            this.players = players;
+            this.compatible = compatible;
+            this.partners = new int[players.size()];
+        }
+
+        boolean run(int floaters) {
+            int size = partners.length;
+            Arrays.fill(partners, UNMATCHED);
+            int[] decided = new int[size + 1];
+            int[] tried = new int[size + 1];
+            int[] offsets = new int[size + 1];
+            int depth = 0;
+            int open = size;
+            int floatsLeft = floaters;
+            offsets[0] = open / 2;
+
+            while (comparisons < SEARCH_BUDGET) {
+                int player = decided[depth];
+                if (player == size) {
+                    return true;
+                }
+
+                int span = size - player - 1;
+                boolean assigned = false;
+                while (!assigned && tried[depth] < span && comparisons < SEARCH_BUDGET) {
+                    int candidate = player + 1 + (Math.max(0, Math.min(offsets[depth], span) - 1) + tried[depth]++) % span;
+                    if (partners[candidate] == UNMATCHED) {
+                        comparisons++;
+                        if (compatible.test(players.get(player), players.get(candidate))) {
+                            partners[player] = candidate;
+                            partners[candidate] = player;
+                            open -= 2;
+                            assigned = true;
+                        }
+                    }
+                }
+                if (!assigned && tried[depth] == span && floatsLeft > 0) {
+                    tried[depth]++;
+                    partners[player] = FLOATED;
+                    floatsLeft--;
+                    open--;
+                    assigned = true;
+                }
+
+                if (assigned) {
+                    depth++;
+                    decided[depth] = nextUnmatched(player + 1);
+                    tried[depth] = 0;
+                    offsets[depth] = open / 2;
+                } else {
+                    if (depth == 0) {
+                        return false;
+                    }
+                    depth--;
+                    int previous = decided[depth];
+                    if (partners[previous] == FLOATED) {
+                        floatsLeft++;
+                        open++;
+                    } else {
+                        partners[partners[previous]] = UNMATCHED;
+                        open += 2;
+                    }
+                    partners[previous] = UNMATCHED;
+                }
+            }
+            return false;
+        }
+
+        boolean exhausted() {
+            return comparisons >= SEARCH_BUDGET;
+        }
+
+        List<SwissEntrant> collect(List<SwissEntrant[]> games) {
+            List<SwissEntrant> floaters = new ArrayList<>();
+            for (int player = 0; player < partners.length; player++) {
+                if (partners[player] == FLOATED) {
+                    floaters.add(players.get(player));
+                } else if (partners[player] > player) {
+                    games.add(new SwissEntrant[]{players.get(player), players.get(partners[player])});
+                }
+            }
+            return floaters;
+        }
+
+        private int nextUnmatched(int from) {
+            int player = from;
+            while (player < partners.length && partners[player] != UNMATCHED) {
+                player++;
+            }
+            return player;
+        }
+    }
+
+    // Edmonds' blossom algorithm for a maximum matching, seeded greedily so only a few augmenting paths are searched
+    private static final class MaximumMatching {
+
+        private static final int NONE = -1;
+
+        private final List<SwissEntrant> players;
+        private final BiPredicate<SwissEntrant, SwissEntrant> compatible;
+        private final int[] match;
+        private final int[] parent;
+        private final int[] base;
+        private final int[] queue;
+        private final boolean[] queued;
+        private final boolean[] inBlossom;
+        private final boolean[] onPath;
+
+        private MaximumMatching(List<SwissEntrant> players, BiPredicate<SwissEntrant, SwissEntrant> compatible) {
+            int size = players.size();
+            this.players = players;
+            this.compatible = compatible;
+            this.match = new int[size];
+            this.parent = new int[size];
+            this.base = new int[size];
+            this.queue = new int[size];
+            this.queued = new boolean[size];
+            this.inBlossom = new boolean[size];
+            this.onPath = new boolean[size];
+        }
+
+        boolean run(List<SwissEntrant[]> games) {
+            int size = match.length;
+            Arrays.fill(match, NONE);
+            for (int player = 0; player < size; player++) {
+                for (int candidate = player + 1; candidate < size && match[player] == NONE; candidate++) {
+                    if (match[candidate] == NONE && compatible(player, candidate)) {
+                        match[player] = candidate;
+                        match[candidate] = player;
+                    }
+                }
+            }
+            for (int root = 0; root < size; root++) {
+                if (match[root] == NONE) {
+                    augment(findAugmentingPath(root));
+                }
+            }
+
+            for (int player = 0; player < size; player++) {
+                if (match[player] == NONE) {
+                    return false;
+                }
+            }
+            for (int player = 0; player < size; player++) {
+                if (match[player] > player) {
+                    games.add(new SwissEntrant[]{players.get(player), players.get(match[player])});
+                }
+            }
+            return true;
+        }
+
+        private int findAugmentingPath(int root) {
+            int size = match.length;
+            Arrays.fill(parent, NONE);
+            Arrays.fill(queued, false);
+            for (int player = 0; player < size; player++) {
+                base[player] = player;
+            }
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            queued[root] = true;
+
+            while (head < tail) {
+                int player = queue[head++];
+                for (int candidate = 0; candidate < size; candidate++) {
+                    if (base[player] == base[candidate] || match[player] == candidate || !compatible(player, candidate)) {
+                        continue;
+                    }
+                    if (candidate == root || (match[candidate] != NONE && parent[match[candidate]] != NONE)) {
+                        int blossomBase = commonBase(player, candidate);
+                        Arrays.fill(inBlossom, false);
+                        markPath(player, blossomBase, candidate);
+                        markPath(candidate, blossomBase, player);
+                        for (int member = 0; member < size; member++) {
+                            if (inBlossom[base[member]]) {
+                                base[member] = blossomBase;
+                                if (!queued[member]) {
+                                    queued[member] = true;
+                                    queue[tail++] = member;
+                                }
+                            }
+                        }
+                    } else if (parent[candidate] == NONE) {
+                        parent[candidate] = player;
+                        if (match[candidate] == NONE) {
+                            return candidate;
+                        }
+                        queued[match[candidate]] = true;
+                        queue[tail++] = match[candidate];
+                    }
+                }
+            }
+            return NONE;
+        }
+
+        private int commonBase(int first, int second) {
+            Arrays.fill(onPath, false);
+            while (true) {
+                first = base[first];
+                onPath[first] = true;
+                if (match[first] == NONE) {
+                    break;
+                }
+                first = parent[match[first]];
+            }
+            while (true) {
+                second = base[second];
+                if (onPath[second]) {
+                    return second;
+                }
+                second = parent[match[second]];
+            }
+        }
+
+        private void markPath(int player, int blossomBase, int child) {
+            while (base[player] != blossomBase) {
+                inBlossom[base[player]] = true;
+                inBlossom[base[match[player]]] = true;
+                parent[player] = child;
+                child = match[player];
+                player = parent[match[player]];
+            }
+        }
+
+        private void augment(int end) {
+            while (end != NONE) {
+                int previous = parent[end];
+                int next = match[previous];
+                match[end] = previous;
+                match[previous] = end;
+                end = next;
+            }
+        }
+
+        private boolean compatible(int first, int second) {
+            return first != second && compatible.test(players.get(first), players.get(second));
+        }
+    }
+}
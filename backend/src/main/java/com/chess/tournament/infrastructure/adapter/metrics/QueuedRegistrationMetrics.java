@@ -0,0 +1,38 @@
+package com.chess.tournament.infrastructure.adapter.metrics;
+
+import com.chess.tournament.application.usecase.QueuedRegistrationUseCase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+public class QueuedRegistrationMetrics implements MeterBinder {
+
+    private final QueuedRegistrationUseCase queuedRegistrationUseCase;
+
+    public QueuedRegistrationMetrics(Optional<QueuedRegistrationUseCase> queuedRegistrationUseCase) {
+        this.queuedRegistrationUseCase = queuedRegistrationUseCase.orElse(null);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (queuedRegistrationUseCase == null) {
+            return;
+        }
+        FunctionCounter.builder("tournament.registrations.rejected", queuedRegistrationUseCase, QueuedRegistrationUseCase::rejectedCount)
+                       .description("Registrations rejected because the player is already registered")
+                       .tag("source", "queue")
+                       .register(registry);
+        FunctionCounter.builder("tournament.registrations.failed", queuedRegistrationUseCase, QueuedRegistrationUseCase::failedCount)
+                       .description("Queued registrations whose batch could not be saved")
+                       .tag("source", "queue")
+                       .register(registry);
+        FunctionCounter.builder("tournament.registrations.unpublished", queuedRegistrationUseCase, QueuedRegistrationUseCase::unpublishedCount)
+                       .description("Saved registration batches whose event could not be published")
+                       .tag("source", "queue")
+                       .register(registry);
+    }
+}
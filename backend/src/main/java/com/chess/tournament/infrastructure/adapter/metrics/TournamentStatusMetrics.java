@@ -0,0 +1,28 @@
+package com.chess.tournament.infrastructure.adapter.metrics;
+
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.port.TournamentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TournamentStatusMetrics implements MeterBinder {
+
+    private final TournamentRepository tournamentRepository;
+
+    public TournamentStatusMetrics(TournamentRepository tournamentRepository) {
+        this.tournamentRepository = tournamentRepository;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (TournamentStatus status : TournamentStatus.values()) {
+            Gauge.builder("tournament.live", tournamentRepository, repository -> repository.countByStatus(status))
+                 .description("Tournaments currently stored, by status")
+                 .tag("status", status.name())
+                 .register(registry);
+        }
+    }
+}
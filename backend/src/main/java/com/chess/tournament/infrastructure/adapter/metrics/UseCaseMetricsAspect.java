@@ -0,0 +1,119 @@
+package com.chess.tournament.infrastructure.adapter.metrics;
+
+import com.chess.tournament.application.exception.PlayerAlreadyRegisteredException;
+import com.chess.tournament.application.usecase.PlayerImportReport;
+import com.chess.tournament.application.usecase.RoundAdvanceReport;
+import com.chess.tournament.domain.model.Pairing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+public class UseCaseMetricsAspect {
+
+    private static final String SUCCESS = "success";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final DistributionSummary pairedPlayers;
+    private final DistributionSummary pairingsProduced;
+    private final Counter rejectedRegistrations;
+    private final Counter rejectedImportRows;
+    private final Counter advancedRounds;
+    private final Counter failedRoundAdvances;
+
+    public UseCaseMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+        this.pairedPlayers = DistributionSummary.builder("tournament.pairings.roster.size")
+                                                .description("Players taking part in a generated round")
+                                                .baseUnit("players")
+                                                .publishPercentileHistogram()
+                                                .minimumExpectedValue(2.0)
+                                                .maximumExpectedValue(100_000.0)
+                                                .register(registry);
+        this.pairingsProduced = DistributionSummary.builder("tournament.pairings.produced")
+                                                   .description("Pairings produced per generated round")
+                                                   .baseUnit("pairings")
+                                                   .publishPercentileHistogram()
+                                                   .minimumExpectedValue(1.0)
+                                                   .maximumExpectedValue(50_000.0)
+                                                   .register(registry);
+        this.rejectedRegistrations = Counter.builder("tournament.registrations.rejected")
+                                            .description("Registrations rejected because the player is already registered")
+                                            .tag("source", "single")
+                                            .register(registry);
+        this.rejectedImportRows = Counter.builder("tournament.registrations.rejected")
+                                         .description("Registrations rejected because the player is already registered")
+                                         .tag("source", "import")
+                                         .register(registry);
+        this.advancedRounds = Counter.builder("tournament.rounds.advanced")
+                                     .description("Rounds opened by a batch advance of tournaments in progress")
+                                     .tag("outcome", SUCCESS)
+                                     .register(registry);
+        this.failedRoundAdvances = Counter.builder("tournament.rounds.advanced")
+                                          .description("Rounds opened by a batch advance of tournaments in progress")
+                                          .tag("outcome", "failure")
+                                          .register(registry);
+    }
+
+    @Around("execution(public * com.chess.tournament.application.usecase.*UseCase.execute(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String useCase = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String outcome = SUCCESS;
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            recordResult(result);
+            return result;
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            if (e instanceof PlayerAlreadyRegisteredException) {
+                rejectedRegistrations.increment();
+            }
+            throw e;
+        } finally {
+            timer(useCase, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void recordResult(Object result) {
+        if (result instanceof PlayerImportReport report) {
+            if (report.rejected() > 0) {
+                rejectedImportRows.increment(report.rejected());
+            }
+        } else if (result instanceof RoundAdvanceReport report) {
+            advancedRounds.increment(report.advanced());
+            failedRoundAdvances.increment(report.failures().size());
+        } else if (result instanceof List<?> list && !list.isEmpty() && list.getFirst() instanceof Pairing) {
+            int players = 0;
+            for (Object element : list) {
+                players += ((Pairing) element).blackPlayer() == null ? 1 : 2;
+            }
+            pairedPlayers.record(players);
+            pairingsProduced.record(list.size());
+        }
+    }
+
+    private Timer timer(String useCase, String outcome) {
+        return timers.computeIfAbsent(useCase + '#' + outcome, ignored -> Timer.builder("tournament.usecase")
+                                                                          .description("Execution time of application use cases")
+                                                                          .tag("usecase", useCase)
+                                                                          .tag("outcome", outcome)
+                                                                          .publishPercentileHistogram()
+                                                                          .minimumExpectedValue(Duration.ofMillis(1))
+                                                                          .maximumExpectedValue(Duration.ofSeconds(30))
+                                                                          .register(registry));
+    }
+}
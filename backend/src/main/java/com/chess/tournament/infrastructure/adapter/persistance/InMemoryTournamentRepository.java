@@ -1,26 +1,210 @@
 package com.chess.tournament.infrastructure.adapter.persistance;
 
+import com.chess.tournament.application.exception.ConcurrentTournamentUpdateException;
 import com.chess.tournament.domain.model.Tournament;
 import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentSummary;
 import com.chess.tournament.domain.port.TournamentRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
-import java.util.HashMap;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 @Repository
+@Profile("!jpa & !journal")
 public class InMemoryTournamentRepository implements TournamentRepository {
-    private final Map<TournamentId, Tournament> tournaments = new HashMap<>();
+
+    private static final UUID FIRST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final UUID LAST_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final ConcurrentMap<TournamentId, Tournament> tournaments = new ConcurrentHashMap<>();
+    private final Map<TournamentStatus, NavigableSet<DateKey>> byStatus = new EnumMap<>(TournamentStatus.class);
+    private final Map<TournamentStatus, LongAdder> statusCounts = new EnumMap<>(TournamentStatus.class);
+    private final NavigableSet<DateKey> byStartDate = new ConcurrentSkipListSet<>();
+    private final NavigableSet<NameKey> byName = new ConcurrentSkipListSet<>();
+
+    public InMemoryTournamentRepository() {
+        for (TournamentStatus status : TournamentStatus.values()) {
+            byStatus.put(status, new ConcurrentSkipListSet<>());
+            statusCounts.put(status, new LongAdder());
+        }
+    }
 
     @Override
     public Tournament save(Tournament tournament) {
-        tournaments.put(tournament.getId(), tournament);
+        long expectedVersion = tournament.getVersion();
+        tournament.markSaved(expectedVersion + 1);
+        var snapshot = tournament.snapshot();
+
+        var stored = tournaments.compute(tournament.getId(), (id, current) -> {
+            long currentVersion = current == null ? 0 : current.getVersion();
+            if (currentVersion != expectedVersion) {
+                return current;
+            }
+            index(current, snapshot);
+            return snapshot;
+        });
+
+        if (stored != snapshot) {
+            tournament.markSaved(expectedVersion);
+            throw new ConcurrentTournamentUpdateException(tournament.getId().value().toString(), expectedVersion);
+        }
         return tournament;
     }
 
     @Override
     public Optional<Tournament> findById(TournamentId tournamentId) {
+        return Optional.ofNullable(tournaments.get(tournamentId)).map(Tournament::copy);
+    }
+
+    @Override
+    public Optional<Tournament> findSnapshotById(TournamentId tournamentId) {
         return Optional.ofNullable(tournaments.get(tournamentId));
     }
+
+    @Override
+    public Map<TournamentStatus, Long> countByStatus() {
+        Map<TournamentStatus, Long> counts = new EnumMap<>(TournamentStatus.class);
+        statusCounts.forEach((status, count) -> {
+            long value = count.sum();
+            if (value > 0) {
+                counts.put(status, value);
+            }
+        });
+        return counts;
+    }
+
+    @Override
+    public long countByStatus(TournamentStatus status) {
+        return statusCounts.get(status).sum();
+    }
+
+    @Override
+    public List<TournamentSummary> findByStatus(TournamentStatus status, TournamentId after, int limit) {
+        var index = byStatus.get(status);
+        var remaining = after == null ? index : index.tailSet(DateKey.of(cursor(after)), false);
+        return page(remaining, DateKey::id, tournament -> tournament.getStatus() == status, limit);
+    }
+
+    @Override
+    public List<TournamentSummary> findByStartDateBetween(LocalDate from, LocalDate to, TournamentId after, int limit) {
+        var first = new DateKey(from, FIRST_ID);
+        var last = new DateKey(to, LAST_ID);
+        var cursor = after == null ? first : DateKey.of(cursor(after));
+        if (cursor.compareTo(last) > 0) {
+            return List.of();
+        }
+        var range = cursor.compareTo(first) <= 0 ? byStartDate.subSet(first, true, last, true) : byStartDate.subSet(cursor, false, last, true);
+        return page(range, DateKey::id, tournament -> true, limit);
+    }
+
+    @Override
+    public List<TournamentSummary> findByNamePrefix(String prefix, TournamentId after, int limit) {
+        String normalized = normalizeName(prefix);
+        var first = new NameKey(normalized, FIRST_ID);
+        var last = new NameKey(normalized + Character.MAX_VALUE, LAST_ID);
+        var cursor = after == null ? first : NameKey.of(cursor(after));
+        if (cursor.compareTo(last) > 0) {
+            return List.of();
+        }
+        var range = cursor.compareTo(first) <= 0 ? byName.subSet(first, true, last, false) : byName.subSet(cursor, false, last, false);
+        return page(range, NameKey::id, tournament -> true, limit);
+    }
+
+    void restore(Tournament tournament) {
+        var snapshot = tournament.snapshot();
+        tournaments.compute(tournament.getId(), (id, current) -> {
+            index(current, snapshot);
+            return snapshot;
+        });
+    }
+
+    List<Tournament> snapshots() {
+        return List.copyOf(tournaments.values());
+    }
+
+    private void index(Tournament previous, Tournament current) {
+        var key = DateKey.of(current);
+        if (previous == null) {
+            byStartDate.add(key);
+            byName.add(NameKey.of(current));
+        } else if (previous.getStatus() == current.getStatus()) {
+            return;
+        } else {
+            byStatus.get(previous.getStatus()).remove(key);
+            statusCounts.get(previous.getStatus()).decrement();
+        }
+        byStatus.get(current.getStatus()).add(key);
+        statusCounts.get(current.getStatus()).increment();
+    }
+
+    private Tournament cursor(TournamentId after) {
+        var tournament = tournaments.get(after);
+        if (tournament == null) {
+            throw new IllegalArgumentException("Unknown tournament cursor " + after.value());
+        }
+        return tournament;
+    }
+
+    private <K> List<TournamentSummary> page(Iterable<K> keys, Function<K, UUID> id, Predicate<Tournament> matches, int limit) {
+        List<TournamentSummary> page = new ArrayList<>(Math.min(limit, 64));
+        for (K key : keys) {
+            if (page.size() == limit) {
+                break;
+            }
+            var tournament = tournaments.get(new TournamentId(id.apply(key)));
+            if (tournament != null && matches.test(tournament)) {
+                page.add(TournamentSummary.of(tournament));
+            }
+        }
+        return page;
+    }
+
+    private static String normalizeName(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private record DateKey(LocalDate startDate, UUID id) implements Comparable<DateKey> {
+
+        private static final Comparator<DateKey> ORDER = Comparator.comparing(DateKey::startDate).thenComparing(DateKey::id);
+
+        static DateKey of(Tournament tournament) {
+            return new DateKey(tournament.getStartDate(), tournament.getId().value());
+        }
+
+        @Override
+        public int compareTo(DateKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private record NameKey(String name, UUID id) implements Comparable<NameKey> {
+
+        private static final Comparator<NameKey> ORDER = Comparator.comparing(NameKey::name).thenComparing(NameKey::id);
+
+        static NameKey of(Tournament tournament) {
+            return new NameKey(normalizeName(tournament.getName()), tournament.getId().value());
+        }
+
+        @Override
+        public int compareTo(NameKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
 }
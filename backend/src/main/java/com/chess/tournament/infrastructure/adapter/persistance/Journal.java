@@ -0,0 +1,172 @@
+package com.chess.tournament.infrastructure.adapter.persistance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+final class Journal implements AutoCloseable {
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Object syncLock = new Object();
+    private long segment;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long written;
+    private volatile long durable;
+
+    private Journal(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    static Journal open(Path directory, int segmentSize, long firstSegment, Consumer<ByteBuffer> replay) throws IOException {
+        Files.createDirectories(directory);
+        var journal = new Journal(directory, segmentSize);
+
+        List<Long> segments = new ArrayList<>();
+        for (long segment : journal.segments()) {
+            if (segment >= firstSegment) {
+                segments.add(segment);
+            }
+        }
+        if (segments.isEmpty()) {
+            journal.map(firstSegment, 0);
+            return journal;
+        }
+
+        int end = 0;
+        for (long segment : segments) {
+            try (var channel = FileChannel.open(journal.segmentPath(segment), StandardOpenOption.READ)) {
+                end = replay(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), replay);
+            }
+        }
+        journal.map(segments.getLast(), end);
+        return journal;
+    }
+
+    private static int replay(ByteBuffer segment, Consumer<ByteBuffer> replay) {
+        var crc = new CRC32C();
+        while (segment.remaining() >= HEADER_BYTES) {
+            int start = segment.position();
+            int length = segment.getInt();
+            int checksum = segment.getInt();
+            if (length <= 0 || length > segment.remaining()) {
+                return start;
+            }
+
+            ByteBuffer payload = segment.slice(segment.position(), length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return start;
+            }
+            replay.accept(payload);
+            segment.position(segment.position() + length);
+        }
+        return segment.position();
+    }
+
+    synchronized long append(byte[] payload) {
+        int recordSize = HEADER_BYTES + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Journal record of " + payload.length + " bytes exceeds the segment size of " + segmentSize + " bytes");
+        }
+        if (buffer.remaining() < recordSize) {
+            roll();
+        }
+
+        var crc = new CRC32C();
+        crc.update(payload);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        written = segment * segmentSize + buffer.position();
+        return written;
+    }
+
+    void sync(long position) {
+        if (durable >= position) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durable >= position) {
+                return;
+            }
+            long target;
+            MappedByteBuffer current;
+            synchronized (this) {
+                target = written;
+                current = buffer;
+            }
+            current.force();
+            durable = target;
+        }
+    }
+
+    synchronized long rotate() {
+        roll();
+        return segment;
+    }
+
+    void deleteSegmentsBefore(long firstSegment) throws IOException {
+        for (long segment : segments()) {
+            if (segment < firstSegment) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        }
+    }
+
+    private void roll() {
+        try {
+            buffer.force();
+            channel.close();
+            map(segment + 1, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not roll journal segment " + segment, e);
+        }
+    }
+
+    private void map(long segment, int position) throws IOException {
+        this.segment = segment;
+        this.channel = FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        this.buffer.position(position);
+        this.written = segment * segmentSize + position;
+        this.durable = written;
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                        .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                        .map(name -> Long.parseLong(name, SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length(), 10))
+                        .sorted()
+                        .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(SEGMENT_PREFIX + "%016d".formatted(segment) + SEGMENT_SUFFIX);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+}
@@ -0,0 +1,211 @@
+package com.chess.tournament.infrastructure.adapter.persistance;
+
+import com.chess.tournament.application.exception.ConcurrentTournamentUpdateException;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentSummary;
+import com.chess.tournament.domain.port.TournamentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Repository
+@Profile("journal")
+public class JournalTournamentRepository implements TournamentRepository, AutoCloseable {
+
+    private static final int SNAPSHOT_MAGIC = 0x54534e50;
+    private static final int LOCK_STRIPES = 64;
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    private final InMemoryTournamentRepository tournaments = new InMemoryTournamentRepository();
+    private final Lock[] stripes = new Lock[LOCK_STRIPES];
+    private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    private final AtomicLong changesSinceSnapshot = new AtomicLong();
+    private final AtomicBoolean snapshotRunning = new AtomicBoolean();
+    private final ExecutorService snapshotWriter = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("tournament-snapshot").daemon().factory());
+    private final Path snapshotFile;
+    private final long snapshotInterval;
+    private final Journal journal;
+
+    public JournalTournamentRepository(@Value("${tournament.journal.directory:data/journal}") Path directory,
+                                       @Value("${tournament.journal.segment-size:67108864}") int segmentSize,
+                                       @Value("${tournament.journal.snapshot-interval:100000}") long snapshotInterval) throws IOException {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        this.snapshotInterval = snapshotInterval;
+
+        Map<UUID, TournamentJournalCodec.State> states = new HashMap<>();
+        long firstSegment = readSnapshot(states);
+        this.journal = Journal.open(directory, segmentSize, firstSegment, payload -> {
+            TournamentJournalCodec.apply(payload, states);
+            changesSinceSnapshot.incrementAndGet();
+        });
+        for (TournamentJournalCodec.State state : states.values()) {
+            tournaments.restore(state.toTournament());
+        }
+    }
+
+    @Override
+    public Tournament save(Tournament tournament) {
+        long expectedVersion = tournament.getVersion();
+        snapshotLock.readLock().lock();
+        try {
+            Lock stripe = stripes[Math.floorMod(tournament.getId().hashCode(), LOCK_STRIPES)];
+            stripe.lock();
+            try {
+                var previous = tournaments.findSnapshotById(tournament.getId()).orElse(null);
+                if ((previous == null ? 0 : previous.getVersion()) != expectedVersion) {
+                    throw new ConcurrentTournamentUpdateException(tournament.getId().value().toString(), expectedVersion);
+                }
+
+                // The change is published to readers only once it is durable in the journal
+                tournament.markSaved(expectedVersion + 1);
+                try {
+                    journal.sync(journal.append(TournamentJournalCodec.encode(previous, tournament)));
+                } catch (RuntimeException e) {
+                    tournament.markSaved(expectedVersion);
+                    throw e;
+                }
+                tournaments.restore(tournament);
+            } finally {
+                stripe.unlock();
+            }
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+
+        if (changesSinceSnapshot.incrementAndGet() >= snapshotInterval && snapshotRunning.compareAndSet(false, true)) {
+            snapshotWriter.execute(this::writeSnapshot);
+        }
+        return tournament;
+    }
+
+    @Override
+    public Optional<Tournament> findById(TournamentId tournamentId) {
+        return tournaments.findById(tournamentId);
+    }
+
+    @Override
+    public Optional<Tournament> findSnapshotById(TournamentId tournamentId) {
+        return tournaments.findSnapshotById(tournamentId);
+    }
+
+    @Override
+    public Map<TournamentStatus, Long> countByStatus() {
+        return tournaments.countByStatus();
+    }
+
+    @Override
+    public long countByStatus(TournamentStatus status) {
+        return tournaments.countByStatus(status);
+    }
+
+    @Override
+    public List<TournamentSummary> findByStatus(TournamentStatus status, TournamentId after, int limit) {
+        return tournaments.findByStatus(status, after, limit);
+    }
+
+    @Override
+    public List<TournamentSummary> findByStartDateBetween(LocalDate from, LocalDate to, TournamentId after, int limit) {
+        return tournaments.findByStartDateBetween(from, to, after, limit);
+    }
+
+    @Override
+    public List<TournamentSummary> findByNamePrefix(String prefix, TournamentId after, int limit) {
+        return tournaments.findByNamePrefix(prefix, after, limit);
+    }
+
+    void writeSnapshot() {
+        try {
+            List<Tournament> state;
+            long firstSegment;
+            snapshotLock.writeLock().lock();
+            try {
+                firstSegment = journal.rotate();
+                state = tournaments.snapshots();
+                changesSinceSnapshot.set(0);
+            } finally {
+                snapshotLock.writeLock().unlock();
+            }
+
+            Path temporary = snapshotFile.resolveSibling(SNAPSHOT_FILE + ".tmp");
+            try (var channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeLong(firstSegment);
+                out.writeInt(state.size());
+                for (Tournament tournament : state) {
+                    byte[] payload = TournamentJournalCodec.encode(null, tournament);
+                    out.writeInt(payload.length);
+                    out.write(payload);
+                }
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            journal.deleteSegmentsBefore(firstSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write tournament snapshot", e);
+        } finally {
+            snapshotRunning.set(false);
+        }
+    }
+
+    private long readSnapshot(Map<UUID, TournamentJournalCodec.State> states) throws IOException {
+        if (!Files.exists(snapshotFile)) {
+            return 0;
+        }
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile), 1 << 16))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not a tournament snapshot: " + snapshotFile);
+            }
+            long firstSegment = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                TournamentJournalCodec.apply(ByteBuffer.wrap(payload), states);
+            }
+            return firstSegment;
+        }
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        snapshotWriter.shutdown();
+        snapshotWriter.awaitTermination(1, TimeUnit.MINUTES);
+        journal.close();
+    }
+}
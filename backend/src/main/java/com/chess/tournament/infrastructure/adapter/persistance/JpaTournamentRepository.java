@@ -0,0 +1,194 @@
+package com.chess.tournament.infrastructure.adapter.persistance;
+
+import com.chess.tournament.application.exception.ConcurrentTournamentUpdateException;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentSummary;
+import com.chess.tournament.domain.model.TournamentType;
+import com.chess.tournament.domain.port.TournamentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.TypedQuery;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Repository
+@Profile("jpa")
+public class JpaTournamentRepository implements TournamentRepository {
+
+    private static final String FETCH_WITH_PLAYERS =
+            "select t from TournamentEntity t left join fetch t.players where t.id = :id";
+    private static final String FETCH_WITH_PAIRINGS =
+            "select t from TournamentEntity t left join fetch t.pairings where t.id = :id";
+    private static final String FIND_VERSION =
+            "select t.version from TournamentEntity t where t.id = :id";
+    private static final String SUMMARY =
+            "select t.id, t.name, t.description, t.startDate, t.type, t.status from TournamentEntity t ";
+    private static final String AFTER_DATE_CURSOR =
+            " and (t.startDate > :cursorDate or (t.startDate = :cursorDate and t.id > :cursorId))";
+    private static final String AFTER_NAME_CURSOR =
+            " and (t.nameKey > :cursorName or (t.nameKey = :cursorName and t.id > :cursorId))";
+    private static final String BY_DATE = " order by t.startDate, t.id";
+    private static final String BY_NAME = " order by t.nameKey, t.id";
+    private static final String FIND_CURSOR =
+            "select t.startDate, t.nameKey from TournamentEntity t where t.id = :id";
+    private static final String COUNT_BY_STATUS =
+            "select t.status, count(t) from TournamentEntity t group by t.status";
+    private static final String COUNT_WITH_STATUS =
+            "select count(t) from TournamentEntity t where t.status = :status";
+
+    private final EntityManager entityManager;
+
+    public JpaTournamentRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public Tournament save(Tournament tournament) {
+        long expectedVersion = tournament.getVersion();
+        UUID id = tournament.getId().value();
+
+        TournamentEntity entity;
+        if (expectedVersion == 0) {
+            if (entityManager.find(TournamentEntity.class, id) != null) {
+                throw conflict(tournament, expectedVersion);
+            }
+            entity = new TournamentEntity(tournament);
+            entityManager.persist(entity);
+        } else {
+            entity = load(id).orElseThrow(() -> conflict(tournament, expectedVersion));
+            if (entity.getVersion() + 1 != expectedVersion) {
+                throw conflict(tournament, expectedVersion);
+            }
+            entity.apply(tournament);
+        }
+
+        try {
+            entityManager.flush();
+        } catch (OptimisticLockException | OptimisticLockingFailureException e) {
+            throw conflict(tournament, expectedVersion);
+        }
+        // Hibernate starts @Version at 0 while a saved Tournament is at version 1 or later
+        tournament.markSaved(entity.getVersion() + 1);
+        return tournament;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Tournament> findById(TournamentId tournamentId) {
+        return load(tournamentId.value()).map(TournamentEntity::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OptionalLong findVersionById(TournamentId tournamentId) {
+        var found = entityManager.createQuery(FIND_VERSION, Long.class)
+                .setParameter("id", tournamentId.value())
+                .getResultList();
+        return found.isEmpty() ? OptionalLong.empty() : OptionalLong.of(found.getFirst() + 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<TournamentStatus, Long> countByStatus() {
+        Map<TournamentStatus, Long> counts = new EnumMap<>(TournamentStatus.class);
+        for (Object[] row : entityManager.createQuery(COUNT_BY_STATUS, Object[].class).getResultList()) {
+            counts.put((TournamentStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countByStatus(TournamentStatus status) {
+        return entityManager.createQuery(COUNT_WITH_STATUS, Long.class)
+                .setParameter("status", status)
+                .getSingleResult();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TournamentSummary> findByStatus(TournamentStatus status, TournamentId after, int limit) {
+        var query = summaries("t.status = :status", false, after, limit);
+        return toSummaries(query.setParameter("status", status).getResultList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TournamentSummary> findByStartDateBetween(LocalDate from, LocalDate to, TournamentId after, int limit) {
+        var query = summaries("t.startDate between :from and :to", false, after, limit);
+        return toSummaries(query.setParameter("from", from).setParameter("to", to).getResultList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TournamentSummary> findByNamePrefix(String prefix, TournamentId after, int limit) {
+        String pattern = TournamentEntity.nameKey(prefix).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        var query = summaries("t.nameKey like :pattern escape '\\'", true, after, limit);
+        return toSummaries(query.setParameter("pattern", pattern).getResultList());
+    }
+
+    private TypedQuery<Object[]> summaries(String filter, boolean byName, TournamentId after, int limit) {
+        String jpql = SUMMARY + "where " + filter;
+        if (after != null) {
+            jpql += byName ? AFTER_NAME_CURSOR : AFTER_DATE_CURSOR;
+        }
+        var query = entityManager.createQuery(jpql + (byName ? BY_NAME : BY_DATE), Object[].class).setMaxResults(limit);
+        if (after == null) {
+            return query;
+        }
+
+        var cursor = entityManager.createQuery(FIND_CURSOR, Object[].class)
+                .setParameter("id", after.value())
+                .getResultList();
+        if (cursor.isEmpty()) {
+            throw new IllegalArgumentException("Unknown tournament cursor " + after.value());
+        }
+        query.setParameter("cursorId", after.value());
+        if (byName) {
+            query.setParameter("cursorName", cursor.getFirst()[1]);
+        } else {
+            query.setParameter("cursorDate", cursor.getFirst()[0]);
+        }
+        return query;
+    }
+
+    private static List<TournamentSummary> toSummaries(List<Object[]> rows) {
+        List<TournamentSummary> summaries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            summaries.add(new TournamentSummary(new TournamentId((UUID) row[0]), (String) row[1], (String) row[2], (LocalDate) row[3],
+                    (TournamentType) row[4], (TournamentStatus) row[5]));
+        }
+        return summaries;
+    }
+
+    private Optional<TournamentEntity> load(UUID id) {
+        var found = entityManager.createQuery(FETCH_WITH_PLAYERS, TournamentEntity.class)
+                .setParameter("id", id)
+                .getResultList();
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        entityManager.createQuery(FETCH_WITH_PAIRINGS, TournamentEntity.class)
+                .setParameter("id", id)
+                .getResultList();
+        return Optional.of(found.getFirst());
+    }
+
+    private static ConcurrentTournamentUpdateException conflict(Tournament tournament, long expectedVersion) {
+        return new ConcurrentTournamentUpdateException(tournament.getId().value().toString(), expectedVersion);
+    }
+}
@@ -0,0 +1,74 @@
+package com.chess.tournament.infrastructure.adapter.persistance;
+
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.Pairing;
+import com.chess.tournament.domain.model.Round;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Embeddable
+class PairingEmbeddable {
+
+    @Column(name = "round_number", nullable = false)
+    private int roundNumber;
+
+    @Column(nullable = false)
+    private int board;
+
+    @Column(name = "white_player_id", nullable = false)
+    private UUID whitePlayerId;
+
+    @Column(name = "black_player_id")
+    private UUID blackPlayerId;
+
+    @Enumerated(EnumType.STRING)
+    private GameResult result;
+
+    protected PairingEmbeddable() {
+    }
+
+    PairingEmbeddable(int roundNumber, int board, Pairing pairing, GameResult result) {
+        this.roundNumber = roundNumber;
+        this.board = board;
+        this.whitePlayerId = pairing.whitePlayer().value();
+        this.blackPlayerId = pairing.blackPlayer() == null ? null : pairing.blackPlayer().value();
+        this.result = result;
+    }
+
+    int whiteOrdinal(Map<UUID, Integer> ordinals) {
+        return ordinal(ordinals, whitePlayerId);
+    }
+
+    int blackOrdinal(Map<UUID, Integer> ordinals) {
+        return blackPlayerId == null ? Round.BYE : ordinal(ordinals, blackPlayerId);
+    }
+
+    private static int ordinal(Map<UUID, Integer> ordinals, UUID playerId) {
+        Integer ordinal = ordinals.get(playerId);
+        if (ordinal == null) {
+            throw new IllegalStateException("Pairing references unregistered player " + playerId);
+        }
+        return ordinal;
+    }
+
+    int getRoundNumber() {
+        return roundNumber;
+    }
+
+    int getBoard() {
+        return board;
+    }
+
+    GameResult getResult() {
+        return result;
+    }
+
+    void setResult(GameResult result) {
+        this.result = result;
+    }
+}
@@ -0,0 +1,34 @@
+package com.chess.tournament.infrastructure.adapter.persistance;
+
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.util.UUID;
+
+@Embeddable
+class PlayerEmbeddable {
+
+    @Column(name = "player_id", nullable = false)
+    private UUID playerId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private int rating;
+
+    protected PlayerEmbeddable() {
+    }
+
+    PlayerEmbeddable(TournamentPlayer player) {
+        this.playerId = player.id().value();
+        this.name = player.name();
+        this.rating = player.rating();
+    }
+
+    TournamentPlayer toDomain() {
+        return new TournamentPlayer(new PlayerId(playerId), name, rating);
+    }
+}
@@ -0,0 +1,148 @@
+package com.chess.tournament.infrastructure.adapter.persistance;
+
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.Round;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentType;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+@Entity
+@Table(name = "tournaments", indexes = {
+        @Index(name = "tournaments_status_start_date", columnList = "status, start_date, id"),
+        @Index(name = "tournaments_start_date", columnList = "start_date, id"),
+        @Index(name = "tournaments_name_key", columnList = "name_key, id")
+})
+class TournamentEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "name_key", nullable = false)
+    private String nameKey;
+
+    private String description;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TournamentType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TournamentStatus status;
+
+    @Version
+    private long version;
+
+    @ElementCollection
+    @CollectionTable(name = "tournament_players", joinColumns = @JoinColumn(name = "tournament_id"))
+    @OrderColumn(name = "position")
+    private List<PlayerEmbeddable> players = new ArrayList<>();
+
+    @ElementCollection
+    @CollectionTable(name = "tournament_pairings", joinColumns = @JoinColumn(name = "tournament_id"))
+    @OrderColumn(name = "position")
+    private List<PairingEmbeddable> pairings = new ArrayList<>();
+
+    protected TournamentEntity() {
+    }
+
+    TournamentEntity(Tournament tournament) {
+        this.id = tournament.getId().value();
+        this.name = tournament.getName();
+        this.nameKey = nameKey(tournament.getName());
+        this.description = tournament.getDescription();
+        this.startDate = tournament.getStartDate();
+        this.type = tournament.getType();
+        apply(tournament);
+    }
+
+    static String nameKey(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    void apply(Tournament tournament) {
+        status = tournament.getStatus();
+
+        var roster = tournament.getRegisteredPlayers();
+        if (roster.size() > players.size()) {
+            roster.stream().skip(players.size()).map(PlayerEmbeddable::new).forEach(players::add);
+        }
+
+        int position = 0;
+        for (Round round : tournament.getRounds()) {
+            for (int board = 1; board <= round.boards(); board++, position++) {
+                GameResult result = round.getResult(board).orElse(null);
+                if (position < pairings.size()) {
+                    pairings.get(position).setResult(result);
+                } else {
+                    pairings.add(new PairingEmbeddable(round.getNumber(), board, tournament.getPairing(round, board), result));
+                }
+            }
+        }
+    }
+
+    Tournament toDomain() {
+        List<TournamentPlayer> roster = new ArrayList<>(players.size());
+        Map<UUID, Integer> ordinals = HashMap.newHashMap(players.size());
+        for (PlayerEmbeddable player : players) {
+            var restored = player.toDomain();
+            ordinals.put(restored.id().value(), roster.size());
+            roster.add(restored);
+        }
+
+        List<Round> rounds = new ArrayList<>();
+        int start = 0;
+        while (start < pairings.size()) {
+            int roundNumber = pairings.get(start).getRoundNumber();
+            int end = start;
+            while (end < pairings.size() && pairings.get(end).getRoundNumber() == roundNumber) {
+                end++;
+            }
+
+            int[] white = new int[end - start];
+            int[] black = new int[end - start];
+            List<GameResult> results = new ArrayList<>(end - start);
+            for (PairingEmbeddable pairing : pairings.subList(start, end)) {
+                white[results.size()] = pairing.whiteOrdinal(ordinals);
+                black[results.size()] = pairing.blackOrdinal(ordinals);
+                results.add(pairing.getResult());
+            }
+            rounds.add(Round.restore(roundNumber, white, black, results));
+            start = end;
+        }
+
+        return Tournament.restore(new TournamentId(id), name, description, startDate, type, status, version + 1, roster, rounds);
+    }
+
+    long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,225 @@
+package com.chess.tournament.infrastructure.adapter.persistance;
+
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Round;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class TournamentJournalCodec {
+
+    private static final byte END = 0;
+    private static final byte CREATED = 1;
+    private static final byte PLAYERS_REGISTERED = 2;
+    private static final byte STATUS_CHANGED = 3;
+    private static final byte ROUND_OPENED = 4;
+    private static final byte RESULT_RECORDED = 5;
+
+    private static final TournamentType[] TYPES = TournamentType.values();
+    private static final TournamentStatus[] STATUSES = TournamentStatus.values();
+    private static final GameResult[] RESULTS = GameResult.values();
+
+    private TournamentJournalCodec() {
+    }
+
+    static byte[] encode(Tournament previous, Tournament current) {
+        var bytes = new ByteArrayOutputStream(256);
+        var out = new DataOutputStream(bytes);
+        try {
+            writeUuid(out, current.getId().value());
+            out.writeLong(current.getVersion());
+
+            if (previous == null) {
+                out.writeByte(CREATED);
+                writeString(out, current.getName());
+                out.writeBoolean(current.getDescription() != null);
+                if (current.getDescription() != null) {
+                    writeString(out, current.getDescription());
+                }
+                out.writeLong(current.getStartDate().toEpochDay());
+                out.writeByte(current.getType().ordinal());
+            }
+
+            int knownPlayers = previous == null ? 0 : previous.getRegisteredPlayers().size();
+            var players = current.getRegisteredPlayers();
+            if (players.size() > knownPlayers) {
+                out.writeByte(PLAYERS_REGISTERED);
+                out.writeInt(players.size() - knownPlayers);
+                for (TournamentPlayer player : players.stream().skip(knownPlayers).toList()) {
+                    writeUuid(out, player.id().value());
+                    writeString(out, player.name());
+                    out.writeInt(player.rating());
+                }
+            }
+
+            if (previous == null || previous.getStatus() != current.getStatus()) {
+                out.writeByte(STATUS_CHANGED);
+                out.writeByte(current.getStatus().ordinal());
+            }
+
+            List<Round> knownRounds = previous == null ? List.of() : previous.getRounds();
+            List<Round> rounds = current.getRounds();
+            for (int index = Math.max(0, knownRounds.size() - 1); index < rounds.size(); index++) {
+                Round round = rounds.get(index);
+                Round known = index < knownRounds.size() ? knownRounds.get(index) : null;
+                if (known == null) {
+                    writeRound(out, current, round);
+                }
+                for (int board = 1; board <= round.boards(); board++) {
+                    var result = round.getResult(board);
+                    if (result.isPresent() && (known == null || known.getResult(board).isEmpty())) {
+                        out.writeByte(RESULT_RECORDED);
+                        out.writeInt(round.getNumber());
+                        out.writeInt(board);
+                        out.writeByte(result.get().ordinal());
+                    }
+                }
+            }
+
+            out.writeByte(END);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeRound(DataOutputStream out, Tournament tournament, Round round) throws IOException {
+        out.writeByte(ROUND_OPENED);
+        out.writeInt(round.getNumber());
+        out.writeInt(round.boards());
+        for (int board = 1; board <= round.boards(); board++) {
+            writeUuid(out, tournament.getPlayer(round.white(board)).id().value());
+            out.writeBoolean(!round.isBye(board));
+            if (!round.isBye(board)) {
+                writeUuid(out, tournament.getPlayer(round.black(board)).id().value());
+            }
+        }
+    }
+
+    static void apply(ByteBuffer in, Map<UUID, State> states) {
+        UUID id = readUuid(in);
+        long version = in.getLong();
+        State state = states.get(id);
+
+        for (byte event = in.get(); event != END; event = in.get()) {
+            switch (event) {
+                case CREATED -> {
+                    String name = readString(in);
+                    String description = in.get() != 0 ? readString(in) : null;
+                    state = new State(new TournamentId(id), name, description, LocalDate.ofEpochDay(in.getLong()), TYPES[in.get()]);
+                    states.put(id, state);
+                }
+                case PLAYERS_REGISTERED -> {
+                    int count = in.getInt();
+                    for (int i = 0; i < count; i++) {
+                        var playerId = new PlayerId(readUuid(in));
+                        state.ordinals.put(playerId, state.players.size());
+                        state.players.add(new TournamentPlayer(playerId, readString(in), in.getInt()));
+                    }
+                }
+                case STATUS_CHANGED -> state.status = STATUSES[in.get()];
+                case ROUND_OPENED -> {
+                    int number = in.getInt();
+                    int boards = in.getInt();
+                    var round = new RoundState(number, boards);
+                    for (int board = 0; board < boards; board++) {
+                        round.white[board] = state.ordinals.get(new PlayerId(readUuid(in)));
+                        round.black[board] = in.get() != 0 ? state.ordinals.get(new PlayerId(readUuid(in))) : Round.BYE;
+                    }
+                    state.rounds.add(round);
+                }
+                case RESULT_RECORDED -> {
+                    int number = in.getInt();
+                    int board = in.getInt();
+                    state.rounds.get(number - 1).results[board - 1] = RESULTS[in.get()];
+                }
+                default -> throw new IllegalStateException("Unknown journal event " + event + " for tournament " + id);
+            }
+        }
+        if (state == null) {
+            throw new IllegalStateException("Journal has changes for unknown tournament " + id);
+        }
+        state.version = version;
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(ByteBuffer in) {
+        return new UUID(in.getLong(), in.getLong());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static final class State {
+        private final TournamentId id;
+        private final String name;
+        private final String description;
+        private final LocalDate startDate;
+        private final TournamentType type;
+        private final List<TournamentPlayer> players = new ArrayList<>();
+        private final Map<PlayerId, Integer> ordinals = new HashMap<>();
+        private final List<RoundState> rounds = new ArrayList<>();
+        private TournamentStatus status;
+        private long version;
+
+        private State(TournamentId id, String name, String description, LocalDate startDate, TournamentType type) {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+            this.startDate = startDate;
+            this.type = type;
+        }
+
+        Tournament toTournament() {
+            List<Round> restored = new ArrayList<>(rounds.size());
+            for (RoundState round : rounds) {
+                restored.add(Round.restore(round.number, round.white, round.black, Arrays.asList(round.results)));
+            }
+            return Tournament.restore(id, name, description, startDate, type, status, version, players, restored);
+        }
+    }
+
+    private static final class RoundState {
+        private final int number;
+        private final int[] white;
+        private final int[] black;
+        private final GameResult[] results;
+
+        private RoundState(int number, int boards) {
+            this.number = number;
+            this.white = new int[boards];
+            this.black = new int[boards];
+            this.results = new GameResult[boards];
+        }
+    }
+}
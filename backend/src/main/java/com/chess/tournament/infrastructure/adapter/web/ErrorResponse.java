@@ -0,0 +1,4 @@
+package com.chess.tournament.infrastructure.adapter.web;
+
+public record ErrorResponse(String error, String message, int status) {
+}
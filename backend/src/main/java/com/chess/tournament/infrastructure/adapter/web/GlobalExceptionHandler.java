@@ -1,7 +1,12 @@
 package com.chess.tournament.infrastructure.adapter.web;
 
+import com.chess.tournament.application.exception.ConcurrentTournamentUpdateException;
 import com.chess.tournament.application.exception.PlayerAlreadyRegisteredException;
+import com.chess.tournament.application.exception.RegistrationQueueFullException;
+import com.chess.tournament.application.exception.RegistrationTicketNotFoundException;
+import com.chess.tournament.application.exception.RoundNotFoundException;
 import com.chess.tournament.application.exception.TournamentNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -20,6 +25,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(RoundNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleRoundNotFound(RoundNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "ROUND_NOT_FOUND",
+                ex.getMessage(),
+                HttpStatus.NOT_FOUND.value()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(RegistrationTicketNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleRegistrationTicketNotFound(RegistrationTicketNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "REGISTRATION_TICKET_NOT_FOUND",
+                ex.getMessage(),
+                HttpStatus.NOT_FOUND.value()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(RegistrationQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleRegistrationQueueFull(RegistrationQueueFullException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "REGISTRATION_QUEUE_FULL",
+                ex.getMessage(),
+                HttpStatus.TOO_MANY_REQUESTS.value()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").body(errorResponse);
+    }
+
     @ExceptionHandler(PlayerAlreadyRegisteredException.class)
     public ResponseEntity<ErrorResponse> handlePlayerAlreadyRegistered(PlayerAlreadyRegisteredException ex) {
         ErrorResponse errorResponse = new ErrorResponse(
@@ -30,6 +65,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler(ConcurrentTournamentUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentTournamentUpdate(ConcurrentTournamentUpdateException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "CONCURRENT_UPDATE",
+                ex.getMessage(),
+                HttpStatus.CONFLICT.value()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
         ErrorResponse errorResponse = new ErrorResponse(
@@ -40,6 +85,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalState(IllegalStateException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "INVALID_STATE",
+                ex.getMessage(),
+                HttpStatus.CONFLICT.value()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         ErrorResponse errorResponse = new ErrorResponse(
@@ -0,0 +1,132 @@
+package com.chess.tournament.infrastructure.adapter.web;
+
+import com.chess.tournament.application.usecase.PlayerImportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+class PlayerImportParser implements Iterator<PlayerImportRow> {
+
+    enum Format {
+        CSV, NDJSON
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectReader requestReader;
+    private long lineNumber;
+    private PlayerImportRow next;
+
+    PlayerImportParser(BufferedReader reader, Format format, ObjectReader requestReader) {
+        this.reader = reader;
+        this.format = format;
+        // A missing or null rating would otherwise default to 0 and be imported as a real rating
+        this.requestReader = requestReader.with(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES,
+                DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public PlayerImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var row = next;
+        next = null;
+        return row;
+    }
+
+    private PlayerImportRow readNext() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (format == Format.CSV && lineNumber == 1 && isCsvHeader(line))) {
+                    continue;
+                }
+                return format == Format.CSV ? parseCsv(line) : parseJson(line);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private PlayerImportRow parseJson(String line) {
+        try {
+            RegisterPlayerRequest request = requestReader.readValue(line);
+            if (request == null) {
+                return PlayerImportRow.invalid(lineNumber, "Expected an object with playerName and rating");
+            }
+            return PlayerImportRow.valid(lineNumber, request.playerName(), request.rating());
+        } catch (MismatchedInputException e) {
+            return PlayerImportRow.invalid(lineNumber, "Invalid player: " + e.getOriginalMessage());
+        } catch (JsonProcessingException e) {
+            return PlayerImportRow.invalid(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private PlayerImportRow parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields == null || fields.size() != 2) {
+            return PlayerImportRow.invalid(lineNumber, "Expected 2 columns: playerName,rating");
+        }
+        try {
+            return PlayerImportRow.valid(lineNumber, fields.get(0), Integer.parseInt(fields.get(1).strip()));
+        } catch (NumberFormatException e) {
+            return PlayerImportRow.invalid(lineNumber, "Rating must be a whole number");
+        }
+    }
+
+    private static boolean isCsvHeader(String line) {
+        List<String> fields = splitCsv(line);
+        return fields != null && fields.size() == 2 && fields.get(1).strip().equalsIgnoreCase("rating");
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(2);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
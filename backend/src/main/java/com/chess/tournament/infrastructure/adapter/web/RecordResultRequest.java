@@ -0,0 +1,6 @@
+package com.chess.tournament.infrastructure.adapter.web;
+
+import com.chess.tournament.domain.model.GameResult;
+
+public record RecordResultRequest(int board, GameResult result) {
+}
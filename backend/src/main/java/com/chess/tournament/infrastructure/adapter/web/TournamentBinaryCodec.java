@@ -0,0 +1,318 @@
+package com.chess.tournament.infrastructure.adapter.web;
+
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Round;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentType;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class TournamentBinaryCodec {
+
+    static final String MEDIA_TYPE = "application/vnd.chess-tournament";
+
+    private static final int MAGIC = 0x43544d42;
+    private static final byte FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_STRING_BYTES = 1 << 20;
+    private static final int MAX_PREALLOCATED = 1 << 16;
+
+    private static final TournamentType[] TYPES = TournamentType.values();
+    private static final TournamentStatus[] STATUSES = TournamentStatus.values();
+    private static final GameResult[] RESULTS = GameResult.values();
+
+    private TournamentBinaryCodec() {
+    }
+
+    static void encode(Tournament tournament, WritableByteChannel channel) throws IOException {
+        List<TournamentPlayer> players = List.copyOf(tournament.getRegisteredPlayers());
+        Map<String, Integer> strings = HashMap.newHashMap(players.size() + 2);
+        List<String> stringTable = new ArrayList<>(players.size() + 2);
+        int[] playerNames = new int[players.size()];
+        int name = intern(tournament.getName(), strings, stringTable);
+        int description = intern(tournament.getDescription(), strings, stringTable);
+        for (int i = 0; i < players.size(); i++) {
+            playerNames[i] = intern(players.get(i).name(), strings, stringTable);
+        }
+
+        var out = new Output(channel);
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeUuid(tournament.getId().value());
+        out.writeVarLong(tournament.getVersion());
+
+        out.writeVarInt(stringTable.size());
+        for (String value : stringTable) {
+            out.writeString(value);
+        }
+        out.writeVarInt(name);
+        out.writeVarInt(description);
+        out.writeVarLong(zigZag(tournament.getStartDate().toEpochDay()));
+        out.writeByte(tournament.getType().ordinal());
+        out.writeByte(tournament.getStatus().ordinal());
+
+        out.writeVarInt(players.size());
+        for (int i = 0; i < players.size(); i++) {
+            var player = players.get(i);
+            out.writeUuid(player.id().value());
+            out.writeVarInt(playerNames[i]);
+            out.writeVarInt(player.rating());
+        }
+
+        List<Round> rounds = tournament.getRounds();
+        out.writeVarInt(rounds.size());
+        for (Round round : rounds) {
+            out.writeVarInt(round.boards());
+            for (int board = 1; board <= round.boards(); board++) {
+                out.writeVarInt(round.white(board));
+                out.writeVarInt(round.black(board) + 1);
+                out.writeByte(round.getResult(board).map(result -> result.ordinal() + 1).orElse(0));
+            }
+        }
+        out.flush();
+    }
+
+    static Tournament decode(ReadableByteChannel channel) throws IOException {
+        var in = new Input(channel);
+        if (in.readInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a tournament export");
+        }
+        byte format = in.readByte();
+        if (format != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported tournament export format " + format);
+        }
+        var id = new TournamentId(in.readUuid());
+        long version = in.readVarLong();
+
+        int stringCount = in.readVarInt();
+        List<String> strings = new ArrayList<>(Math.min(stringCount, MAX_PREALLOCATED) + 1);
+        strings.add(null);
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(in.readString());
+        }
+        String name = string(strings, in.readVarInt());
+        String description = string(strings, in.readVarInt());
+        LocalDate startDate = LocalDate.ofEpochDay(unZigZag(in.readVarLong()));
+        TournamentType type = constant(TYPES, in.readByte());
+        TournamentStatus status = constant(STATUSES, in.readByte());
+
+        int playerCount = in.readVarInt();
+        List<TournamentPlayer> players = new ArrayList<>(Math.min(playerCount, MAX_PREALLOCATED));
+        for (int i = 0; i < playerCount; i++) {
+            var playerId = new PlayerId(in.readUuid());
+            players.add(new TournamentPlayer(playerId, string(strings, in.readVarInt()), in.readVarInt()));
+        }
+
+        int roundCount = in.readVarInt();
+        List<Round> rounds = new ArrayList<>(Math.min(roundCount, MAX_PREALLOCATED));
+        for (int number = 1; number <= roundCount; number++) {
+            int boards = in.readVarInt();
+            if (boards > playerCount) {
+                throw new IllegalArgumentException("Round " + number + " of tournament export has more boards than players");
+            }
+            int[] white = new int[boards];
+            int[] black = new int[boards];
+            List<GameResult> results = new ArrayList<>(boards);
+            for (int board = 0; board < boards; board++) {
+                white[board] = ordinal(players, in.readVarInt());
+                black[board] = ordinal(players, in.readVarInt() - 1);
+                int result = in.readByte();
+                results.add(result == 0 ? null : constant(RESULTS, result - 1));
+            }
+            rounds.add(Round.restore(number, white, black, results));
+        }
+
+        return Tournament.restore(id, name, description, startDate, type, status, version, players, rounds);
+    }
+
+    private static int intern(String value, Map<String, Integer> strings, List<String> stringTable) {
+        if (value == null) {
+            return 0;
+        }
+        return strings.computeIfAbsent(value, key -> {
+            stringTable.add(key);
+            return stringTable.size();
+        });
+    }
+
+    private static String string(List<String> strings, int index) {
+        if (index < 0 || index >= strings.size()) {
+            throw new IllegalArgumentException("Tournament export references unknown string " + index);
+        }
+        return strings.get(index);
+    }
+
+    private static int ordinal(List<TournamentPlayer> players, int ordinal) {
+        if (ordinal < Round.BYE || ordinal >= players.size()) {
+            throw new IllegalArgumentException("Tournament export references unknown player " + ordinal);
+        }
+        return ordinal;
+    }
+
+    private static <T> T constant(T[] values, int ordinal) {
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IllegalArgumentException("Tournament export has unknown " + values.getClass().getComponentType().getSimpleName() + " " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Output {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        private Output(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        void writeByte(int value) throws IOException {
+            ensure(1);
+            buffer.put((byte) value);
+        }
+
+        void writeInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void writeUuid(UUID value) throws IOException {
+            ensure(2 * Long.BYTES);
+            buffer.putLong(value.getMostSignificantBits());
+            buffer.putLong(value.getLeastSignificantBits());
+        }
+
+        void writeVarInt(int value) throws IOException {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) throws IOException {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            for (int offset = 0; offset < bytes.length; ) {
+                ensure(1);
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+
+    private static final class Input {
+
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+
+        private Input(ReadableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        byte readByte() throws IOException {
+            require(1);
+            return buffer.get();
+        }
+
+        int readInt() throws IOException {
+            require(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        UUID readUuid() throws IOException {
+            require(2 * Long.BYTES);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+
+        int readVarInt() throws IOException {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Tournament export value " + value + " is out of range");
+            }
+            return (int) value;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte next = readByte();
+                value |= (long) (next & 0x7F) << shift;
+                if (next >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed variable-length number in tournament export");
+        }
+
+        String readString() throws IOException {
+            int length = readVarInt();
+            if (length > MAX_STRING_BYTES) {
+                throw new IllegalArgumentException("Tournament export string of " + length + " bytes is too long");
+            }
+            byte[] bytes = new byte[length];
+            for (int offset = 0; offset < length; ) {
+                require(1);
+                int chunk = Math.min(buffer.remaining(), length - offset);
+                buffer.get(bytes, offset, chunk);
+                offset += chunk;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private void require(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Tournament export ended unexpectedly");
+                }
+            }
+            buffer.flip();
+        }
+    }
+}
@@ -1,13 +1,40 @@
 package com.chess.tournament.infrastructure.adapter.web;
 
+import com.chess.tournament.application.exception.RegistrationTicketNotFoundException;
 import com.chess.tournament.application.usecase.*;
 import com.chess.tournament.domain.model.Pairing;
+import com.chess.tournament.domain.model.PlayerOrder;
+import com.chess.tournament.domain.model.RatingChange;
+import com.chess.tournament.domain.model.Standing;
+import com.chess.tournament.domain.model.TournamentId;
 import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.Collection;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/tournaments")
@@ -18,15 +45,45 @@ public class TournamentController {
     private final StartTournamentUseCase startTournamentUseCase;
     private final GetTournamentPlayersUseCase getTournamentPlayersUseCase;
     private final GeneratePairingsUseCase generatePairingsUseCase;
+    private final GetPairingsUseCase getPairingsUseCase;
     private final GetTournamentUseCase getTournamentUseCase;
+    private final ImportPlayersUseCase importPlayersUseCase;
+    private final RecordResultUseCase recordResultUseCase;
+    private final GetStandingsUseCase getStandingsUseCase;
+    private final GetRatingChangesUseCase getRatingChangesUseCase;
+    private final GetTournamentVersionUseCase getTournamentVersionUseCase;
+    private final ListTournamentsUseCase listTournamentsUseCase;
+    private final ExportTournamentUseCase exportTournamentUseCase;
+    private final ImportTournamentUseCase importTournamentUseCase;
+    private final AdvanceRoundsUseCase advanceRoundsUseCase;
+    private final QueuedRegistrationUseCase queuedRegistrationUseCase;
+    private final TournamentEventHub tournamentEventHub;
+    private final ObjectReader registerPlayerRequestReader;
+    private final ObjectWriter tournamentPlayerWriter;
+    private final JsonFactory jsonFactory;
 
-    public TournamentController(RegisterPlayerUseCase registerPlayerUseCase, CreateTournamentUseCase createTournamentUseCase, StartTournamentUseCase startTournamentUseCase, GetTournamentPlayersUseCase getTournamentPlayersUseCase, GeneratePairingsUseCase generatePairingsUseCase, GetTournamentUseCase getTournamentUseCase) {
+    public TournamentController(RegisterPlayerUseCase registerPlayerUseCase, CreateTournamentUseCase createTournamentUseCase, StartTournamentUseCase startTournamentUseCase, GetTournamentPlayersUseCase getTournamentPlayersUseCase, GeneratePairingsUseCase generatePairingsUseCase, GetPairingsUseCase getPairingsUseCase, GetTournamentUseCase getTournamentUseCase, ImportPlayersUseCase importPlayersUseCase, RecordResultUseCase recordResultUseCase, GetStandingsUseCase getStandingsUseCase, GetRatingChangesUseCase getRatingChangesUseCase, GetTournamentVersionUseCase getTournamentVersionUseCase, ListTournamentsUseCase listTournamentsUseCase, ExportTournamentUseCase exportTournamentUseCase, ImportTournamentUseCase importTournamentUseCase, AdvanceRoundsUseCase advanceRoundsUseCase, Optional<QueuedRegistrationUseCase> queuedRegistrationUseCase, TournamentEventHub tournamentEventHub, ObjectMapper objectMapper) {
         this.registerPlayerUseCase = registerPlayerUseCase;
         this.createTournamentUseCase = createTournamentUseCase;
         this.startTournamentUseCase = startTournamentUseCase;
         this.getTournamentPlayersUseCase = getTournamentPlayersUseCase;
         this.generatePairingsUseCase = generatePairingsUseCase;
+        this.getPairingsUseCase = getPairingsUseCase;
         this.getTournamentUseCase = getTournamentUseCase;
+        this.importPlayersUseCase = importPlayersUseCase;
+        this.recordResultUseCase = recordResultUseCase;
+        this.getStandingsUseCase = getStandingsUseCase;
+        this.getRatingChangesUseCase = getRatingChangesUseCase;
+        this.getTournamentVersionUseCase = getTournamentVersionUseCase;
+        this.listTournamentsUseCase = listTournamentsUseCase;
+        this.exportTournamentUseCase = exportTournamentUseCase;
+        this.importTournamentUseCase = importTournamentUseCase;
+        this.advanceRoundsUseCase = advanceRoundsUseCase;
+        this.queuedRegistrationUseCase = queuedRegistrationUseCase.orElse(null);
+        this.tournamentEventHub = tournamentEventHub;
+        this.registerPlayerRequestReader = objectMapper.readerFor(RegisterPlayerRequest.class);
+        this.tournamentPlayerWriter = objectMapper.writerFor(TournamentPlayer.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.jsonFactory = objectMapper.getFactory();
     }
 
     @PostMapping
@@ -37,16 +94,65 @@ public class TournamentController {
         return ResponseEntity.ok(tournamentId);
     }
 
+    @GetMapping
+    public ResponseEntity<TournamentPage> listTournaments(@RequestParam(required = false) TournamentStatus status, @RequestParam(required = false) String name,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                         @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "50") int limit) {
+        var page = listTournamentsUseCase.execute(new ListTournamentsQuery(status, name, from, to, cursor, limit));
+        return ResponseEntity.ok(page);
+    }
+
+    @PostMapping(value = "/import", consumes = {TournamentBinaryCodec.MEDIA_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<String> importTournament(InputStream body) throws IOException {
+        var tournament = TournamentBinaryCodec.decode(Channels.newChannel(body));
+
+        String tournamentId = importTournamentUseCase.execute(tournament);
+        return ResponseEntity.ok(tournamentId);
+    }
+
+    @GetMapping(value = "/{tournamentId}/export", produces = TournamentBinaryCodec.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportTournament(@PathVariable String tournamentId) {
+        var tournament = exportTournamentUseCase.execute(tournamentId);
+        StreamingResponseBody body = outputStream -> TournamentBinaryCodec.encode(tournament, Channels.newChannel(outputStream));
+        return ResponseEntity.ok()
+                             .contentType(MediaType.parseMediaType(TournamentBinaryCodec.MEDIA_TYPE))
+                             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tournament-" + tournamentId + ".ctm\"")
+                             .body(body);
+    }
+
     @PostMapping("/{tournamentId}/players")
-    public ResponseEntity<Void> registerPlayer(@PathVariable String tournamentId, @RequestBody RegisterPlayerRequest request) {
+    public ResponseEntity<RegistrationTicket> registerPlayer(@PathVariable String tournamentId, @RequestBody RegisterPlayerRequest request) {
 
         var command = new RegisterPlayerCommand(tournamentId, request.playerName(), request.rating());
 
+        if (queuedRegistrationUseCase != null) {
+            var ticket = queuedRegistrationUseCase.execute(command);
+            return ResponseEntity.accepted().location(URI.create("/api/tournaments/registrations/" + ticket.ticketId())).body(ticket);
+        }
         registerPlayerUseCase.execute(command);
 
         return ResponseEntity.ok().build();
     }
 
+    @GetMapping("/registrations/{ticketId}")
+    public ResponseEntity<RegistrationTicket> getRegistration(@PathVariable String ticketId) {
+        if (queuedRegistrationUseCase == null) {
+            throw new RegistrationTicketNotFoundException(ticketId);
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(queuedRegistrationUseCase.status(ticketId));
+    }
+
+    @PostMapping(value = "/{tournamentId}/players/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<PlayerImportReport> importPlayers(@PathVariable String tournamentId, @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException {
+        var format = contentType.startsWith("text/csv") ? PlayerImportParser.Format.CSV : PlayerImportParser.Format.NDJSON;
+
+        try (var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            var report = importPlayersUseCase.execute(tournamentId, new PlayerImportParser(reader, format, registerPlayerRequestReader));
+            return ResponseEntity.ok(report);
+        }
+    }
+
     @PostMapping("/{tournamentId}/start")
     public ResponseEntity<Void> startTournament(@PathVariable String tournamentId) {
         startTournamentUseCase.execute(tournamentId);
@@ -54,20 +160,105 @@ public class TournamentController {
     }
 
     @GetMapping("/{tournamentId}/players")
-    public ResponseEntity<Collection<TournamentPlayer>> getTournamentPlayers(@PathVariable String tournamentId) {
-        var players = getTournamentPlayersUseCase.execute(tournamentId);
-        return ResponseEntity.ok(players);
+    public ResponseEntity<StreamingResponseBody> getTournamentPlayers(@PathVariable String tournamentId, @RequestParam(defaultValue = "REGISTRATION") PlayerOrder sort, WebRequest webRequest) {
+        if (isNotModified(tournamentId, webRequest)) {
+            return null;
+        }
+
+        var players = getTournamentPlayersUseCase.execute(tournamentId, sort);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = jsonFactory.createGenerator(outputStream)) {
+                generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                generator.writeStartArray();
+                for (TournamentPlayer player : players) {
+                    tournamentPlayerWriter.writeValue(generator, player);
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @GetMapping(value = "/{tournamentId}/players", params = "limit")
+    public ResponseEntity<PlayerPage> getTournamentPlayersPage(@PathVariable String tournamentId, @RequestParam(defaultValue = "REGISTRATION") PlayerOrder sort,
+                                                               @RequestParam int limit, @RequestParam(required = false) String cursor, WebRequest webRequest) {
+        if (isNotModified(tournamentId, webRequest)) {
+            return null;
+        }
+
+        var page = getTournamentPlayersUseCase.execute(tournamentId, sort, cursor, limit);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(page);
+    }
+
+    @GetMapping("/{tournamentId}/players/rating-band")
+    public ResponseEntity<RatingBand> getTournamentPlayersInRatingBand(@PathVariable String tournamentId, @RequestParam(defaultValue = "0") int min,
+                                                                       @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int max, WebRequest webRequest) {
+        if (isNotModified(tournamentId, webRequest)) {
+            return null;
+        }
+
+        var band = getTournamentPlayersUseCase.execute(tournamentId, min, max);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(band);
     }
 
     @GetMapping("/{tournamentId}/pairings")
-    public ResponseEntity<List<Pairing>> getPairings(@PathVariable String tournamentId, @RequestParam(defaultValue = "1") int round) {
-        var pairings = generatePairingsUseCase.execute(tournamentId, round);
+    public ResponseEntity<List<Pairing>> getPairings(@PathVariable String tournamentId, @RequestParam(defaultValue = "1") int round, WebRequest webRequest) {
+        if (isNotModified(tournamentId, webRequest)) {
+            return null;
+        }
+
+        var pairings = getPairingsUseCase.execute(tournamentId, round);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(pairings);
+    }
+
+    @PostMapping("/rounds")
+    public ResponseEntity<RoundAdvanceReport> advanceRounds() {
+        var report = advanceRoundsUseCase.execute();
+        return ResponseEntity.ok(report);
+    }
+
+    @PostMapping("/{tournamentId}/rounds")
+    public ResponseEntity<List<Pairing>> openNextRound(@PathVariable String tournamentId) {
+        var pairings = generatePairingsUseCase.execute(tournamentId);
         return ResponseEntity.ok(pairings);
     }
 
+    @PostMapping("/{tournamentId}/rounds/{round}/results")
+    public ResponseEntity<Void> recordResult(@PathVariable String tournamentId, @PathVariable int round, @RequestBody RecordResultRequest request) {
+        recordResultUseCase.execute(tournamentId, round, request.board(), request.result());
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping("/{tournamentId}/standings")
+    public ResponseEntity<List<Standing>> getStandings(@PathVariable String tournamentId) {
+        var standings = getStandingsUseCase.execute(tournamentId);
+        return ResponseEntity.ok(standings);
+    }
+
+    @GetMapping("/{tournamentId}/ratings")
+    public ResponseEntity<List<RatingChange>> getRatingChanges(@PathVariable String tournamentId) {
+        var ratingChanges = getRatingChangesUseCase.execute(tournamentId);
+        return ResponseEntity.ok(ratingChanges.asList());
+    }
+
+    @GetMapping(value = "/{tournamentId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@PathVariable String tournamentId) {
+        getTournamentVersionUseCase.execute(tournamentId);
+        return tournamentEventHub.subscribe(TournamentId.from(tournamentId));
+    }
+
     @GetMapping("/{tournamentId}")
-    public ResponseEntity<TournamentDetails> getTournamentDetails(@PathVariable String tournamentId) {
+    public ResponseEntity<TournamentDetails> getTournamentDetails(@PathVariable String tournamentId, WebRequest webRequest) {
+        if (isNotModified(tournamentId, webRequest)) {
+            return null;
+        }
+
         var tournament = getTournamentUseCase.execute(tournamentId);
-        return ResponseEntity.ok(tournament);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(tournament);
+    }
+
+    private boolean isNotModified(String tournamentId, WebRequest webRequest) {
+        long version = getTournamentVersionUseCase.execute(tournamentId);
+        return webRequest.checkNotModified(Long.toString(version));
     }
 }
@@ -0,0 +1,183 @@
+package com.chess.tournament.infrastructure.adapter.web;
+
+import com.chess.tournament.domain.model.TournamentEvent;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.port.TournamentEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class TournamentEventHub implements TournamentEventPublisher, AutoCloseable {
+
+    static final int SUBSCRIBER_BUFFER = 64;
+    private static final Duration SUBSCRIPTION_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(20);
+    private static final Frame HEARTBEAT = new Frame(null, null, null);
+
+    private final ConcurrentMap<TournamentId, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final ObjectWriter eventWriter;
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("tournament-events-heartbeat").daemon().factory());
+
+    public TournamentEventHub(ObjectMapper objectMapper) {
+        this.eventWriter = objectMapper.writer();
+        long interval = HEARTBEAT_INTERVAL.toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(TournamentId tournamentId) {
+        return subscribe(tournamentId, new SseEmitter(SUBSCRIPTION_TIMEOUT.toMillis()));
+    }
+
+    SseEmitter subscribe(TournamentId tournamentId, SseEmitter emitter) {
+        var subscriber = new Subscriber(tournamentId, emitter);
+        channels.compute(tournamentId, (id, subscribers) -> {
+            Set<Subscriber> channel = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            channel.add(subscriber);
+            return channel;
+        });
+
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(() -> unsubscribe(tournamentId, subscriber));
+        emitter.onError(error -> unsubscribe(tournamentId, subscriber));
+        return emitter;
+    }
+
+    @Override
+    public void publish(TournamentEvent event) {
+        var subscribers = channels.get(event.tournamentId());
+        if (subscribers == null) {
+            return;
+        }
+
+        Frame frame;
+        try {
+            frame = new Frame(Long.toString(event.version()), eventName(event), eventWriter.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    private void unsubscribe(TournamentId tournamentId, Subscriber subscriber) {
+        channels.computeIfPresent(tournamentId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void sendHeartbeat() {
+        for (Set<Subscriber> subscribers : channels.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    private static String eventName(TournamentEvent event) {
+        return switch (event) {
+            case TournamentEvent.PlayersRegistered registered -> "players-registered";
+            case TournamentEvent.TournamentStarted started -> "tournament-started";
+            case TournamentEvent.PairingsPublished published -> "pairings-published";
+            case TournamentEvent.ResultRecorded recorded -> "result-recorded";
+        };
+    }
+
+    @Override
+    public void close() {
+        heartbeat.shutdownNow();
+        for (Set<Subscriber> subscribers : channels.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+        writers.shutdown();
+    }
+
+    private record Frame(String id, String name, String data) {
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (data == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(id).name(name).data(data);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final TournamentId tournamentId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> frames = new ArrayBlockingQueue<>(SUBSCRIBER_BUFFER);
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private final AtomicBoolean dropped = new AtomicBoolean();
+
+        private Subscriber(TournamentId tournamentId, SseEmitter emitter) {
+            this.tournamentId = tournamentId;
+            this.emitter = emitter;
+        }
+
+        void offer(Frame frame) {
+            if (dropped.get()) {
+                return;
+            }
+            if (!frames.offer(frame)) {
+                // Slow consumer: drop it and let the client reconnect and refetch
+                if (drop()) {
+                    emitter.complete();
+                }
+                return;
+            }
+            if (writing.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Frame frame;
+                while (!dropped.get() && (frame = frames.poll()) != null) {
+                    try {
+                        emitter.send(frame.toEvent());
+                    } catch (IOException | IllegalStateException e) {
+                        if (drop()) {
+                            emitter.completeWithError(e);
+                        }
+                        return;
+                    }
+                }
+                writing.set(false);
+            } while (!frames.isEmpty() && writing.compareAndSet(false, true));
+        }
+
+        // The emitter only reports completion once the response finishes, so a dropped subscriber leaves the channel here
+        private boolean drop() {
+            if (!dropped.compareAndSet(false, true)) {
+                return false;
+            }
+            frames.clear();
+            unsubscribe(tournamentId, this);
+            return true;
+        }
+    }
+}
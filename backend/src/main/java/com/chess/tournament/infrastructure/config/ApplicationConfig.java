@@ -1,7 +1,11 @@
 package com.chess.tournament.infrastructure.config;
 
 import com.chess.tournament.application.usecase.*;
+import com.chess.tournament.domain.model.BracketSeeding;
+import com.chess.tournament.domain.port.TournamentEventPublisher;
 import com.chess.tournament.domain.port.TournamentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,8 +13,21 @@ import org.springframework.context.annotation.Configuration;
 public class ApplicationConfig {
 
     @Bean
-    public RegisterPlayerUseCase registerPlayerUseCase(TournamentRepository repository) {
-        return new RegisterPlayerUseCase(repository);
+    public RegisterPlayerUseCase registerPlayerUseCase(TournamentRepository repository, TournamentEventPublisher eventPublisher) {
+        return new RegisterPlayerUseCase(repository, eventPublisher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tournament.registration.queue.enabled", havingValue = "true")
+    public QueuedRegistrationUseCase queuedRegistrationUseCase(TournamentRepository repository, TournamentEventPublisher eventPublisher,
+                                                               @Value("${tournament.registration.queue.capacity:10000}") int capacity,
+                                                               @Value("${tournament.registration.queue.batch-size:500}") int batchSize) {
+        return new QueuedRegistrationUseCase(repository, eventPublisher, capacity, batchSize);
+    }
+
+    @Bean
+    public ImportPlayersUseCase importPlayersUseCase(TournamentRepository repository, TournamentEventPublisher eventPublisher) {
+        return new ImportPlayersUseCase(repository, eventPublisher);
     }
 
     @Bean
@@ -19,8 +36,9 @@ public class ApplicationConfig {
     }
     
     @Bean
-    public StartTournamentUseCase startTournamentUseCase(TournamentRepository repository) {
-        return new StartTournamentUseCase(repository);
+    public StartTournamentUseCase startTournamentUseCase(TournamentRepository repository, TournamentEventPublisher eventPublisher,
+                                                         @Value("${tournament.pairing.seeding:REGISTRATION_ORDER}") BracketSeeding seeding) {
+        return new StartTournamentUseCase(repository, eventPublisher, seeding);
     }
 
     @Bean
@@ -29,8 +47,55 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public GeneratePairingsUseCase generatePairingsUseCase(TournamentRepository repository) {
-        return new GeneratePairingsUseCase(repository);
+    public GeneratePairingsUseCase generatePairingsUseCase(TournamentRepository repository, TournamentEventPublisher eventPublisher,
+                                                           @Value("${tournament.pairing.seeding:REGISTRATION_ORDER}") BracketSeeding seeding) {
+        return new GeneratePairingsUseCase(repository, eventPublisher, seeding);
+    }
+
+    @Bean
+    public AdvanceRoundsUseCase advanceRoundsUseCase(TournamentRepository repository, TournamentEventPublisher eventPublisher,
+                                                     @Value("${tournament.pairing.seeding:REGISTRATION_ORDER}") BracketSeeding seeding) {
+        return new AdvanceRoundsUseCase(repository, eventPublisher, seeding, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    public GetPairingsUseCase getPairingsUseCase(TournamentRepository repository) {
+        return new GetPairingsUseCase(repository);
+    }
+
+    @Bean
+    public RecordResultUseCase recordResultUseCase(TournamentRepository repository, TournamentEventPublisher eventPublisher) {
+        return new RecordResultUseCase(repository, eventPublisher);
+    }
+
+    @Bean
+    public GetStandingsUseCase getStandingsUseCase(TournamentRepository repository) {
+        return new GetStandingsUseCase(repository);
+    }
+
+    @Bean
+    public GetRatingChangesUseCase getRatingChangesUseCase(TournamentRepository repository) {
+        return new GetRatingChangesUseCase(repository);
+    }
+
+    @Bean
+    public GetTournamentVersionUseCase getTournamentVersionUseCase(TournamentRepository repository) {
+        return new GetTournamentVersionUseCase(repository);
+    }
+
+    @Bean
+    public ListTournamentsUseCase listTournamentsUseCase(TournamentRepository repository) {
+        return new ListTournamentsUseCase(repository);
+    }
+
+    @Bean
+    public ExportTournamentUseCase exportTournamentUseCase(TournamentRepository repository) {
+        return new ExportTournamentUseCase(repository);
+    }
+
+    @Bean
+    public ImportTournamentUseCase importTournamentUseCase(TournamentRepository repository) {
+        return new ImportTournamentUseCase(repository);
     }
 
     @Bean
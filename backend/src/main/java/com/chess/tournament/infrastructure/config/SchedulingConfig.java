@@ -0,0 +1,22 @@
+package com.chess.tournament.infrastructure.config;
+
+import com.chess.tournament.application.usecase.AdvanceRoundsUseCase;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    private final AdvanceRoundsUseCase advanceRoundsUseCase;
+
+    public SchedulingConfig(AdvanceRoundsUseCase advanceRoundsUseCase) {
+        this.advanceRoundsUseCase = advanceRoundsUseCase;
+    }
+
+    @Scheduled(cron = "${tournament.rounds.advance-cron:-}")
+    public void advanceRounds() {
+        advanceRoundsUseCase.execute();
+    }
+}
@@ -0,0 +1,117 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.domain.model.BracketSeeding;
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Round;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentType;
+import com.chess.tournament.domain.service.PairingStrategies;
+import com.chess.tournament.infrastructure.adapter.persistance.InMemoryTournamentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Advance Rounds Use Case")
+class AdvanceRoundsUseCaseTest {
+
+    private final InMemoryTournamentRepository repository = new InMemoryTournamentRepository();
+
+    @Test
+    @DisplayName("Should open the next round of every ready tournament and isolate failures")
+    void shouldAdvanceReadyTournamentsAndIsolateFailures() {
+        // Given
+        List<Tournament> ready = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            ready.add(saveStarted("League " + i, TournamentType.SWISS, 5));
+        }
+        Tournament waiting = saveStarted("Waiting", TournamentType.SWISS, 4);
+        waiting.openNextRound(PairingStrategies.forType(TournamentType.SWISS));
+        repository.save(waiting);
+        Tournament broken = saveStarted("Broken", TournamentType.SWISS, 4);
+        repository.save(Tournament.create("Planned", "Description", LocalDate.now().plusDays(7), TournamentType.SWISS));
+        var advanceRounds = new AdvanceRoundsUseCase(repository, event -> {
+            if (event.tournamentId().equals(broken.getId())) {
+                throw new IllegalStateException("Event broker unavailable");
+            }
+        }, BracketSeeding.REGISTRATION_ORDER, 4);
+
+        // When
+        var report = advanceRounds.execute();
+
+        // Then
+        assertThat(report.advanced()).isEqualTo(250);
+        assertThat(report.skipped()).isEqualTo(1);
+        assertThat(report.failures()).singleElement().satisfies(failure -> {
+            assertThat(failure.tournamentId()).isEqualTo(broken.getId().value().toString());
+            assertThat(failure.message()).isEqualTo("Event broker unavailable");
+        });
+        assertThat(ready).allSatisfy(tournament -> assertThat(repository.findById(tournament.getId()).orElseThrow().getCurrentRound()).isEqualTo(1));
+        assertThat(repository.findById(waiting.getId()).orElseThrow().getVersion()).isEqualTo(waiting.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should leave finished tournaments alone")
+    void shouldLeaveFinishedTournamentsAlone() {
+        // Given
+        Tournament finished = saveStarted("Finished", TournamentType.ROUND_ROBIN, 2);
+        finished.openNextRound(PairingStrategies.forType(TournamentType.ROUND_ROBIN));
+        finished.recordResult(1, 1, GameResult.DRAW);
+        repository.save(finished);
+        var advanceRounds = new AdvanceRoundsUseCase(repository, event -> {}, BracketSeeding.REGISTRATION_ORDER, 4);
+
+        // When
+        var report = advanceRounds.execute();
+
+        // Then
+        assertThat(report.advanced()).isZero();
+        assertThat(report.failures()).isEmpty();
+        assertThat(repository.findById(finished.getId()).orElseThrow().getStatus()).isEqualTo(TournamentStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should stop a Swiss tournament after its last round without pairing rematches")
+    void shouldStopSwissTournamentAfterItsLastRound() {
+        // Given
+        Tournament swiss = saveStarted("Swiss", TournamentType.SWISS, 8);
+        var advanceRounds = new AdvanceRoundsUseCase(repository, event -> {}, BracketSeeding.REGISTRATION_ORDER, 1);
+        Set<Set<PlayerId>> games = new HashSet<>();
+
+        // When
+        while (advanceRounds.execute().advanced() == 1) {
+            Tournament current = repository.findById(swiss.getId()).orElseThrow();
+            Round round = current.getRound(current.getCurrentRound()).orElseThrow();
+            for (var pairing : current.getPairings(round)) {
+                assertThat(games.add(Set.of(pairing.whitePlayer(), pairing.blackPlayer()))).isTrue();
+            }
+            for (int board = 1; board <= round.boards(); board++) {
+                current.recordResult(round.getNumber(), board, board % 2 == 0 ? GameResult.DRAW : GameResult.WHITE_WINS);
+            }
+            repository.save(current);
+        }
+
+        // Then
+        Tournament completed = repository.findById(swiss.getId()).orElseThrow();
+        assertThat(completed.getCurrentRound()).isEqualTo(3);
+        assertThat(completed.getStatus()).isEqualTo(TournamentStatus.COMPLETED);
+        assertThat(games).hasSize(12);
+    }
+
+    private Tournament saveStarted(String name, TournamentType type, int players) {
+        Tournament tournament = Tournament.create(name, "Description", LocalDate.now().plusDays(7), type);
+        for (int i = 0; i < players; i++) {
+            tournament.registerPlayer(PlayerId.generate(), "Player " + i, 1200 + i);
+        }
+        tournament.start();
+        repository.save(tournament);
+        return tournament;
+    }
+}
@@ -0,0 +1,47 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentType;
+import com.chess.tournament.domain.service.PairingStrategies;
+import com.chess.tournament.infrastructure.adapter.persistance.InMemoryTournamentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Get Rating Changes Use Case")
+class GetRatingChangesUseCaseTest {
+
+    private final InMemoryTournamentRepository repository = new InMemoryTournamentRepository();
+    private final GetRatingChangesUseCase getRatingChanges = new GetRatingChangesUseCase(repository);
+
+    @Test
+    @DisplayName("Should reuse rating changes until the tournament changes")
+    void shouldReuseRatingChangesUntilTheTournamentChanges() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 1500);
+        tournament.registerPlayer(PlayerId.generate(), "Player 2", 1700);
+        tournament.start();
+        tournament.openNextRound(PairingStrategies.forType(TournamentType.ROUND_ROBIN));
+        repository.save(tournament);
+        String tournamentId = tournament.getId().value().toString();
+
+        // When
+        var beforeResult = getRatingChanges.execute(tournamentId);
+        var repeated = getRatingChanges.execute(tournamentId);
+        new RecordResultUseCase(repository, event -> {}).execute(tournamentId, 1, 1, GameResult.WHITE_WINS);
+        var afterResult = getRatingChanges.execute(tournamentId);
+
+        // Then
+        assertThat(repeated).isSameAs(beforeResult);
+        assertThat(afterResult).isNotSameAs(beforeResult);
+        assertThat(beforeResult.gamesPlayed(0)).isEqualTo(0);
+        assertThat(afterResult.gamesPlayed(0)).isEqualTo(1);
+        assertThat(afterResult.ratingChange(0)).isEqualTo(-afterResult.ratingChange(1));
+    }
+}
@@ -0,0 +1,97 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.domain.model.PlayerOrder;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentEvent;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.model.TournamentType;
+import com.chess.tournament.infrastructure.adapter.persistance.InMemoryTournamentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Import Players Use Case")
+class ImportPlayersUseCaseTest {
+
+    private final InMemoryTournamentRepository repository = new InMemoryTournamentRepository();
+    private final List<TournamentEvent> events = new ArrayList<>();
+    private final ImportPlayersUseCase importPlayers = new ImportPlayersUseCase(repository, events::add);
+
+    @Test
+    @DisplayName("Should save and publish one batch per full chunk and one for the remainder")
+    void shouldSaveOneBatchPerChunk() {
+        // Given
+        Tournament tournament = saveTournament();
+        List<PlayerImportRow> rows = IntStream.rangeClosed(1, 2 * ImportPlayersUseCase.CHUNK_SIZE + 1)
+                                              .mapToObj(line -> PlayerImportRow.valid(line, "Player " + line, 1500))
+                                              .toList();
+
+        // When
+        var report = importPlayers.execute(tournament.getId().value().toString(), rows.iterator());
+
+        // Then
+        assertThat(report).isEqualTo(new PlayerImportReport(2L * ImportPlayersUseCase.CHUNK_SIZE + 1, 0, List.of(), false));
+        assertThat(events).hasSize(3);
+        assertThat(events).extracting(event -> ((TournamentEvent.PlayersRegistered) event).players().size())
+                          .containsExactly(ImportPlayersUseCase.CHUNK_SIZE, ImportPlayersUseCase.CHUNK_SIZE, 1);
+        assertThat(repository.findById(tournament.getId()).orElseThrow().getVersion()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should fall back to row by row registration when a chunk holds a duplicate")
+    void shouldFallBackToRowByRowRegistrationForDuplicates() {
+        // Given
+        Tournament tournament = saveTournament();
+        List<PlayerImportRow> rows = List.of(
+                PlayerImportRow.valid(1, "Magnus Carlsen", 2830),
+                PlayerImportRow.invalid(2, "Rating must be a whole number"),
+                PlayerImportRow.valid(3, "Hikaru Nakamura", 2800),
+                PlayerImportRow.valid(4, "magnus  carlsen", 2000),
+                PlayerImportRow.valid(5, " ", 2000),
+                PlayerImportRow.valid(6, "Fabiano Caruana", 2790));
+
+        // When
+        var report = importPlayers.execute(tournament.getId().value().toString(), rows.iterator());
+
+        // Then
+        assertThat(report.accepted()).isEqualTo(3);
+        assertThat(report.rejected()).isEqualTo(3);
+        assertThat(report.errors()).extracting(PlayerImportError::line).containsExactly(2L, 5L, 4L);
+        assertThat(report.errorsTruncated()).isFalse();
+        assertThat(repository.findSnapshotById(tournament.getId()).orElseThrow().getRegisteredPlayers(PlayerOrder.REGISTRATION))
+                .extracting(TournamentPlayer::name).containsExactly("Magnus Carlsen", "Hikaru Nakamura", "Fabiano Caruana");
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should stop listing errors past the reporting limit and flag the report as truncated")
+    void shouldTruncateReportedErrors() {
+        // Given
+        Tournament tournament = saveTournament();
+        List<PlayerImportRow> rows = IntStream.rangeClosed(1, ImportPlayersUseCase.MAX_REPORTED_ERRORS + 5)
+                                              .mapToObj(line -> PlayerImportRow.invalid(line, "Expected 2 columns: playerName,rating"))
+                                              .toList();
+
+        // When
+        var report = importPlayers.execute(tournament.getId().value().toString(), rows.iterator());
+
+        // Then
+        assertThat(report.accepted()).isZero();
+        assertThat(report.rejected()).isEqualTo(ImportPlayersUseCase.MAX_REPORTED_ERRORS + 5);
+        assertThat(report.errors()).hasSize(ImportPlayersUseCase.MAX_REPORTED_ERRORS);
+        assertThat(report.errorsTruncated()).isTrue();
+        assertThat(events).isEmpty();
+    }
+
+    private Tournament saveTournament() {
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SWISS);
+        repository.save(tournament);
+        return tournament;
+    }
+}
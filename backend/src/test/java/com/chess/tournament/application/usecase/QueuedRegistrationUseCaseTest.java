@@ -0,0 +1,156 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.application.exception.RegistrationQueueFullException;
+import com.chess.tournament.application.exception.RegistrationTicketNotFoundException;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentEvent;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.model.TournamentType;
+import com.chess.tournament.infrastructure.adapter.persistance.InMemoryTournamentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Queued Registration Use Case")
+class QueuedRegistrationUseCaseTest {
+
+    private final InMemoryTournamentRepository repository = new InMemoryTournamentRepository();
+
+    @Test
+    @DisplayName("Should group queued registrations into batched saves and push back when the queue is full")
+    void shouldGroupQueuedRegistrationsAndPushBackWhenFull() throws InterruptedException {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SWISS);
+        repository.save(tournament);
+        String tournamentId = tournament.getId().value().toString();
+        var writerBusy = new CountDownLatch(1);
+        var releaseWriter = new CountDownLatch(1);
+        Queue<TournamentEvent> events = new ConcurrentLinkedQueue<>();
+
+        try (var queuedRegistration = new QueuedRegistrationUseCase(repository, event -> {
+            events.add(event);
+            writerBusy.countDown();
+            awaitUninterruptibly(releaseWriter);
+        }, 3, 10)) {
+            // When
+            var first = queuedRegistration.execute(new RegisterPlayerCommand(tournamentId, "Magnus Carlsen", 2830));
+            assertThat(writerBusy.await(10, TimeUnit.SECONDS)).isTrue();
+            var queued = List.of(queuedRegistration.execute(new RegisterPlayerCommand(tournamentId, "Hikaru Nakamura", 2800)),
+                    queuedRegistration.execute(new RegisterPlayerCommand(tournamentId, "Fabiano Caruana", 2790)),
+                    queuedRegistration.execute(new RegisterPlayerCommand(tournamentId, "magnus  carlsen", 2000)));
+
+            // Then
+            assertThat(queued).allSatisfy(ticket -> assertThat(ticket.status()).isEqualTo(RegistrationStatus.PENDING));
+            assertThatThrownBy(() -> queuedRegistration.execute(new RegisterPlayerCommand(tournamentId, "Ding Liren", 2780)))
+                    .isInstanceOf(RegistrationQueueFullException.class);
+
+            releaseWriter.countDown();
+            assertThat(awaitCompletion(queuedRegistration, first).status()).isEqualTo(RegistrationStatus.REGISTERED);
+            assertThat(awaitCompletion(queuedRegistration, queued.get(0)).status()).isEqualTo(RegistrationStatus.REGISTERED);
+            assertThat(awaitCompletion(queuedRegistration, queued.get(1)).status()).isEqualTo(RegistrationStatus.REGISTERED);
+            assertThat(awaitCompletion(queuedRegistration, queued.get(2)).status()).isEqualTo(RegistrationStatus.REJECTED);
+            assertThat(events).hasSize(2);
+            assertThat(repository.findSnapshotById(tournament.getId()).orElseThrow().getRegisteredPlayers())
+                    .extracting(TournamentPlayer::name).containsExactly("Magnus Carlsen", "Hikaru Nakamura", "Fabiano Caruana");
+            assertThat(repository.findById(tournament.getId()).orElseThrow().getVersion()).isEqualTo(3);
+            assertThat(queuedRegistration.rejectedCount()).isEqualTo(1);
+            assertThat(queuedRegistration.failedCount()).isZero();
+            assertThatThrownBy(() -> queuedRegistration.status("unknown")).isInstanceOf(RegistrationTicketNotFoundException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop a tournament queue once it is drained and keep saved registrations when publishing fails")
+    void shouldDropDrainedQueuesAndKeepSavedRegistrationsWhenPublishingFails() throws InterruptedException {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SWISS);
+        repository.save(tournament);
+        String tournamentId = tournament.getId().value().toString();
+
+        try (var queuedRegistration = new QueuedRegistrationUseCase(repository, event -> {
+            throw new IllegalStateException("Event broker unavailable");
+        }, 10, 10)) {
+            // When
+            var ticket = queuedRegistration.execute(new RegisterPlayerCommand(tournamentId, "Magnus Carlsen", 2830));
+            var completed = awaitCompletion(queuedRegistration, ticket);
+            awaitDrained(queuedRegistration);
+
+            // Then
+            assertThat(completed.status()).isEqualTo(RegistrationStatus.REGISTERED);
+            assertThat(repository.findSnapshotById(tournament.getId()).orElseThrow().getRegisteredPlayers())
+                    .extracting(TournamentPlayer::name).containsExactly("Magnus Carlsen");
+            assertThat(queuedRegistration.unpublishedCount()).isEqualTo(1);
+            assertThat(queuedRegistration.failedCount()).isZero();
+            assertThat(queuedRegistration.rejectedCount()).isZero();
+            assertThat(queuedRegistration.activeQueues()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should mark queued registrations failed when their batch cannot be saved")
+    void shouldMarkRegistrationsFailedWhenTheBatchCannotBeSaved() throws InterruptedException {
+        // Given
+        var unavailable = new InMemoryTournamentRepository() {
+            @Override
+            public Tournament save(Tournament tournament) {
+                if (tournament.getVersion() > 0) {
+                    throw new IllegalStateException("Database unavailable");
+                }
+                return super.save(tournament);
+            }
+        };
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SWISS);
+        unavailable.save(tournament);
+        String tournamentId = tournament.getId().value().toString();
+        Queue<TournamentEvent> events = new ConcurrentLinkedQueue<>();
+
+        try (var queuedRegistration = new QueuedRegistrationUseCase(unavailable, events::add, 10, 10)) {
+            // When
+            var ticket = queuedRegistration.execute(new RegisterPlayerCommand(tournamentId, "Magnus Carlsen", 2830));
+            var completed = awaitCompletion(queuedRegistration, ticket);
+            awaitDrained(queuedRegistration);
+
+            // Then
+            assertThat(completed.status()).isEqualTo(RegistrationStatus.FAILED);
+            assertThat(completed.message()).isEqualTo("Database unavailable");
+            assertThat(unavailable.findSnapshotById(tournament.getId()).orElseThrow().getRegisteredPlayers()).isEmpty();
+            assertThat(events).isEmpty();
+            assertThat(queuedRegistration.failedCount()).isEqualTo(1);
+            assertThat(queuedRegistration.rejectedCount()).isZero();
+        }
+    }
+
+    private static RegistrationTicket awaitCompletion(QueuedRegistrationUseCase queuedRegistration, RegistrationTicket ticket) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        var current = queuedRegistration.status(ticket.ticketId());
+        while (current.status() == RegistrationStatus.PENDING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+            current = queuedRegistration.status(ticket.ticketId());
+        }
+        return current;
+    }
+
+    private static void awaitDrained(QueuedRegistrationUseCase queuedRegistration) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (queuedRegistration.activeQueues() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
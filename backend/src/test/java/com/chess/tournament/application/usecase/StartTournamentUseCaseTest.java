@@ -0,0 +1,55 @@
+package com.chess.tournament.application.usecase;
+
+import com.chess.tournament.domain.model.BracketSeeding;
+import com.chess.tournament.domain.model.Pairing;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.model.TournamentType;
+import com.chess.tournament.infrastructure.adapter.persistance.InMemoryTournamentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Start Tournament Use Case")
+class StartTournamentUseCaseTest {
+
+    private final InMemoryTournamentRepository repository = new InMemoryTournamentRepository();
+
+    @Test
+    @DisplayName("Should seed the opening round with the configured seeding")
+    void shouldSeedTheOpeningRoundWithTheConfiguredSeeding() {
+        // Given
+        PlayerId weakest = PlayerId.generate();
+        PlayerId strongest = PlayerId.generate();
+        PlayerId third = PlayerId.generate();
+        PlayerId second = PlayerId.generate();
+        String byRegistration = saveBracket(weakest, strongest, third, second);
+        String byRating = saveBracket(weakest, strongest, third, second);
+
+        // When
+        var registrationPairings = new StartTournamentUseCase(repository, event -> {}, BracketSeeding.REGISTRATION_ORDER).execute(byRegistration);
+        var ratingPairings = new StartTournamentUseCase(repository, event -> {}, BracketSeeding.RATING).execute(byRating);
+
+        // Then
+        assertThat(registrationPairings).extracting(Pairing::whitePlayer).containsExactly(weakest, strongest);
+        assertThat(registrationPairings).extracting(Pairing::blackPlayer).containsExactly(second, third);
+        assertThat(ratingPairings).extracting(Pairing::whitePlayer).containsExactly(strongest, second);
+        assertThat(ratingPairings).extracting(Pairing::blackPlayer).containsExactly(weakest, third);
+    }
+
+    private String saveBracket(PlayerId weakest, PlayerId strongest, PlayerId third, PlayerId second) {
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SINGLE_ELIMINATION);
+        tournament.registerPlayers(List.of(
+                new TournamentPlayer(weakest, "Weakest", 1200),
+                new TournamentPlayer(strongest, "Strongest", 2700),
+                new TournamentPlayer(third, "Third", 2100),
+                new TournamentPlayer(second, "Second", 2400)));
+        repository.save(tournament);
+        return tournament.getId().value().toString();
+    }
+}
@@ -0,0 +1,133 @@
+package com.chess.tournament.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Knockout Bracket")
+class BracketTest {
+
+    @Test
+    @DisplayName("Should place seeds using standard bracket placement")
+    void shouldPlaceSeedsUsingStandardBracketPlacement() {
+        // Given
+        List<TournamentPlayer> seeds = players(8);
+
+        // When
+        var bracket = Bracket.draw(seeds);
+
+        // Then
+        var pairings = bracket.pairings(1);
+        assertThat(pairings).extracting(Pairing::whitePlayerName).containsExactly("Seed 1", "Seed 4", "Seed 2", "Seed 3");
+        assertThat(pairings).extracting(Pairing::blackPlayerName).containsExactly("Seed 8", "Seed 5", "Seed 7", "Seed 6");
+        assertThat(bracket.numberOfRounds()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should give byes to top seeds and advance them automatically")
+    void shouldGiveByesToTopSeedsAndAdvanceThemAutomatically() {
+        // Given
+        List<TournamentPlayer> seeds = players(6);
+        var bracket = Bracket.draw(seeds);
+
+        // When
+        bracket.recordWinner(1, 2, seeds.get(3).id());
+        bracket.recordWinner(1, 4, seeds.get(5).id());
+
+        // Then
+        assertThat(bracket.pairings(1)).filteredOn(p -> p.blackPlayer() == null)
+                                       .extracting(Pairing::whitePlayerName)
+                                       .containsExactly("Seed 1", "Seed 2");
+        var secondRound = bracket.pairings(2);
+        assertThat(secondRound).hasSize(2);
+        assertThat(secondRound.get(0).whitePlayer()).isEqualTo(seeds.get(0).id());
+        assertThat(secondRound.get(0).blackPlayer()).isEqualTo(seeds.get(3).id());
+        assertThat(secondRound.get(1).whitePlayer()).isEqualTo(seeds.get(1).id());
+        assertThat(secondRound.get(1).blackPlayer()).isEqualTo(seeds.get(5).id());
+    }
+
+    @Test
+    @DisplayName("Should move winners up the bracket until a champion is decided")
+    void shouldMoveWinnersUpTheBracketUntilChampionIsDecided() {
+        // Given
+        List<TournamentPlayer> seeds = players(4);
+        var bracket = Bracket.draw(seeds);
+
+        // When
+        bracket.recordWinner(1, 1, seeds.get(0).id());
+        bracket.recordWinner(1, 2, seeds.get(2).id());
+        bracket.recordWinner(2, 1, seeds.get(2).id());
+
+        // Then
+        assertThat(bracket.pairings(2)).singleElement().satisfies(finalMatch -> {
+            assertThat(finalMatch.whitePlayer()).isEqualTo(seeds.get(0).id());
+            assertThat(finalMatch.blackPlayer()).isEqualTo(seeds.get(2).id());
+        });
+        assertThat(bracket.champion()).contains(seeds.get(2));
+    }
+
+    @Test
+    @DisplayName("Should serve the same pairings instance for a round")
+    void shouldServeSamePairingsInstanceForRound() {
+        // Given
+        var bracket = Bracket.draw(players(16));
+
+        // When // Then
+        assertThat(bracket.pairings(1)).isSameAs(bracket.pairings(1));
+    }
+
+    @Test
+    @DisplayName("Should not pair a round whose previous matches are unfinished")
+    void shouldNotPairRoundWithUnfinishedPreviousMatches() {
+        // Given
+        var bracket = Bracket.draw(players(4));
+
+        // When // Then
+        assertThatThrownBy(() -> bracket.pairings(2)).isInstanceOf(IllegalStateException.class).hasMessage("Round 2 pairings depend on unfinished matches");
+        assertThatThrownBy(() -> bracket.pairings(3)).isInstanceOf(IllegalArgumentException.class).hasMessage("Round must be between 1 and 2 for this bracket");
+    }
+
+    @Test
+    @DisplayName("Should reject winner who does not play on the board")
+    void shouldRejectWinnerWhoDoesNotPlayOnTheBoard() {
+        // Given
+        List<TournamentPlayer> seeds = players(4);
+        var bracket = Bracket.draw(seeds);
+
+        // When // Then
+        assertThatThrownBy(() -> bracket.recordWinner(1, 1, seeds.get(1).id())).isInstanceOf(IllegalArgumentException.class);
+        bracket.recordWinner(1, 1, seeds.get(3).id());
+        assertThatThrownBy(() -> bracket.recordWinner(1, 1, seeds.get(0).id())).isInstanceOf(IllegalStateException.class).hasMessage("Match on board 1 of round 1 is already decided");
+    }
+
+    private static List<TournamentPlayer> players(int count) {
+        List<TournamentPlayer> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(new TournamentPlayer(PlayerId.generate(), "Seed " + (i + 1), 2000 - i * 10));
+        }
+        return players;
+    }
+
+    @Test
+    @DisplayName("Should leave copies untouched by later winners")
+    void shouldLeaveCopiesUntouchedByLaterWinners() {
+        // Given
+        List<TournamentPlayer> seeds = players(4);
+        var bracket = Bracket.draw(seeds);
+        bracket.recordWinner(1, 1, seeds.get(0).id());
+
+        // When
+        var copy = bracket.copy();
+        bracket.recordWinner(1, 2, seeds.get(1).id());
+        copy.recordWinner(1, 2, seeds.get(2).id());
+
+        // Then
+        assertThat(bracket.pairings(2)).singleElement().satisfies(finalMatch -> assertThat(finalMatch.blackPlayer()).isEqualTo(seeds.get(1).id()));
+        assertThat(copy.pairings(2)).singleElement().satisfies(finalMatch -> assertThat(finalMatch.blackPlayer()).isEqualTo(seeds.get(2).id()));
+    }
+}
@@ -0,0 +1,85 @@
+package com.chess.tournament.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Name Index")
+class NameIndexTest {
+
+    @Test
+    @DisplayName("Should keep players ordered by name as they are added")
+    void shouldKeepPlayersOrderedByName() {
+        // Given
+        var random = new Random(24);
+        var index = new NameIndex();
+        List<String> keys = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 2_000; i++) {
+            String key = "player " + Integer.toString(random.nextInt(1_000_000), 36) + " " + i;
+            index.add(i, key);
+            keys.add(key);
+        }
+        List<Integer> expected = new ArrayList<>(IntStream.range(0, keys.size()).boxed().toList());
+        expected.sort(Comparator.comparing(keys::get));
+
+        // Then
+        assertThat(index.ordinals(0, index.size())).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+        assertThat(index.ordinals(150, 160)).containsExactly(expected.subList(150, 160).stream().mapToInt(Integer::intValue).toArray());
+        IntStream.range(0, expected.size()).forEach(rank -> assertThat(index.rank(expected.get(rank))).isEqualTo(rank));
+        assertThat(index.contains(keys.get(1_234))).isTrue();
+        assertThat(index.contains("player unknown")).isFalse();
+        assertThatThrownBy(() -> index.add(2_000, keys.getFirst())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should leave copies untouched by later registrations")
+    void shouldLeaveCopiesUntouchedByLaterRegistrations() {
+        // Given
+        var index = new NameIndex();
+        index.add(0, "magnus carlsen");
+
+        // When
+        var copy = index.copy();
+        index.add(1, "hikaru nakamura");
+        copy.add(1, "alireza firouzja");
+
+        // Then
+        assertThat(index.ordinals(0, index.size())).containsExactly(1, 0);
+        assertThat(index.contains("alireza firouzja")).isFalse();
+        assertThat(copy.ordinals(0, copy.size())).containsExactly(1, 0);
+        assertThat(copy.contains("hikaru nakamura")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should look names up by key after the index is resized")
+    void shouldLookNamesUpAfterResizing() {
+        // Given
+        var index = new NameIndex();
+        index.ensureCapacity(4);
+        for (int i = 0; i < 1_000; i++) {
+            index.add(i, "player " + i);
+        }
+
+        // When
+        index.trimToSize();
+        var copy = index.copy();
+        copy.add(1_000, "player 1000");
+
+        // Then
+        IntStream.range(0, 1_000).forEach(i -> assertThat(index.contains("player " + i)).isTrue());
+        assertThat(index.contains("player 1000")).isFalse();
+        assertThat(copy.contains("player 1000")).isTrue();
+        assertThat(copy.contains("player 1001")).isFalse();
+        assertThatThrownBy(() -> copy.add(1_001, "player 0")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.chess.tournament.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Pairing History")
+class PairingHistoryTest {
+
+    @Test
+    @DisplayName("Should remember who met whom regardless of colour")
+    void shouldRememberWhoMetWhom() {
+        // Given
+        var history = history(5_000);
+
+        // When
+        history.recordGame(4_999, 0);
+        history.recordGame(17, 2_500);
+
+        // Then
+        assertThat(history.haveMet(0, 4_999)).isTrue();
+        assertThat(history.haveMet(4_999, 0)).isTrue();
+        assertThat(history.haveMet(2_500, 17)).isTrue();
+        assertThat(history.haveMet(17, 2_499)).isFalse();
+        assertThat(history.haveMet(1, 4_999)).isFalse();
+        assertThatThrownBy(() -> history.haveMet(3, 3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should track colour difference and streak from the colour sequence")
+    void shouldTrackColourDifferenceAndStreak() {
+        // Given
+        var history = history(4);
+
+        // When
+        history.recordGame(0, 1);
+        history.recordGame(2, 0);
+        history.recordGame(3, 0);
+
+        // Then
+        assertThat(history.colourCount(0)).isEqualTo(3);
+        assertThat(history.colourDifference(0)).isEqualTo(-1);
+        assertThat(history.colourStreak(0)).isEqualTo(-2);
+        assertThat(history.colourStreak(1)).isEqualTo(-1);
+        assertThat(history.colourStreak(2)).isEqualTo(1);
+        assertThat(history.colourDifference(2)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the most recent colours once the sequence is full")
+    void shouldKeepMostRecentColoursOnceSequenceIsFull() {
+        // Given
+        var history = history(101);
+
+        // When
+        for (int opponent = 1; opponent <= 100; opponent++) {
+            if (opponent <= 90) {
+                history.recordGame(opponent, 0);
+            } else {
+                history.recordGame(0, opponent);
+            }
+        }
+
+        // Then
+        assertThat(history.colourCount(0)).isEqualTo(62);
+        assertThat(history.colourStreak(0)).isEqualTo(10);
+        assertThat(history.colourDifference(0)).isEqualTo(10 - 52);
+    }
+
+    @Test
+    @DisplayName("Should isolate copies from later games")
+    void shouldIsolateCopiesFromLaterGames() {
+        // Given
+        var history = history(3);
+        history.recordGame(0, 1);
+        var copy = history.copy();
+
+        // When
+        history.recordGame(1, 2);
+        copy.recordGame(2, 0);
+
+        // Then
+        assertThat(history.haveMet(1, 2)).isTrue();
+        assertThat(history.haveMet(0, 2)).isFalse();
+        assertThat(copy.haveMet(1, 2)).isFalse();
+        assertThat(copy.haveMet(0, 2)).isTrue();
+    }
+
+    private static PairingHistory history(int players) {
+        var history = new PairingHistory(players);
+        for (int i = 0; i < players; i++) {
+            history.addPlayer();
+        }
+        return history;
+    }
+}
@@ -0,0 +1,62 @@
+package com.chess.tournament.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Rating Index")
+class RatingIndexTest {
+
+    @Test
+    @DisplayName("Should keep players ordered by rating then registration as they are added")
+    void shouldKeepPlayersOrderedByRatingThenRegistration() {
+        // Given
+        var random = new Random(24);
+        var roster = new Roster();
+        var index = new RatingIndex(roster);
+        List<Integer> expected = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 2_000; i++) {
+            int ordinal = roster.add(new TournamentPlayer(PlayerId.generate(), "Player " + i, 1000 + random.nextInt(200)));
+            index.add(ordinal);
+            expected.add(ordinal);
+        }
+        expected.sort(Comparator.comparingInt(roster::rating).reversed().thenComparingInt(ordinal -> ordinal));
+
+        // Then
+        assertThat(index.ordinals(0, index.size())).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+        assertThat(index.ordinals(150, 160)).containsExactly(expected.subList(150, 160).stream().mapToInt(Integer::intValue).toArray());
+        IntStream.range(0, expected.size()).forEach(rank -> {
+            assertThat(index.select(rank)).isEqualTo(expected.get(rank));
+            assertThat(index.rank(expected.get(rank))).isEqualTo(rank);
+        });
+        assertThat(index.countRatedAbove(1099)).isEqualTo((int) expected.stream().filter(ordinal -> roster.rating(ordinal) > 1099).count());
+        assertThatThrownBy(() -> index.select(2_000)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should leave copies untouched by later registrations")
+    void shouldLeaveCopiesUntouchedByLaterRegistrations() {
+        // Given
+        var roster = new Roster();
+        var index = new RatingIndex(roster);
+        index.add(roster.add(new TournamentPlayer(PlayerId.generate(), "Hikaru Nakamura", 2750)));
+
+        // When
+        var copy = index.copy(roster.copy());
+        index.add(roster.add(new TournamentPlayer(PlayerId.generate(), "Magnus Carlsen", 2830)));
+
+        // Then
+        assertThat(copy.ordinals(0, copy.size())).containsExactly(0);
+        assertThat(index.ordinals(0, index.size())).containsExactly(1, 0);
+    }
+}
@@ -0,0 +1,57 @@
+package com.chess.tournament.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Roster")
+class RosterTest {
+
+    @Test
+    @DisplayName("Should keep players in registration order and find them by id")
+    void shouldKeepRegistrationOrderAndFindById() {
+        // Given
+        var roster = new Roster();
+        List<TournamentPlayer> players = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            players.add(new TournamentPlayer(PlayerId.generate(), "Player " + i + (i % 7 == 0 ? " Ünal" : ""), 1000 + i));
+        }
+
+        // When
+        players.forEach(roster::add);
+
+        // Then
+        assertThat(roster.asList()).containsExactlyElementsOf(players);
+        assertThat(roster.indexOf(players.get(637).id())).isEqualTo(637);
+        assertThat(roster.rating(999)).isEqualTo(1999);
+        assertThat(roster.name(0)).isEqualTo("Player 0 Ünal");
+        assertThat(roster.contains(PlayerId.generate())).isFalse();
+        assertThatThrownBy(() -> roster.add(players.get(3))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> roster.get(1_000)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should leave copies untouched by later registrations")
+    void shouldLeaveCopiesUntouchedByLaterRegistrations() {
+        // Given
+        var roster = new Roster();
+        var magnus = new TournamentPlayer(PlayerId.generate(), "Magnus Carlsen", 2830);
+        var hikaru = new TournamentPlayer(PlayerId.generate(), "Hikaru Nakamura", 2800);
+        roster.add(magnus);
+        roster.trimToSize();
+
+        // When
+        var copy = roster.copy();
+        roster.add(hikaru);
+
+        // Then
+        assertThat(copy.asList()).containsExactly(magnus);
+        assertThat(copy.contains(hikaru.id())).isFalse();
+        assertThat(roster.asList()).containsExactly(magnus, hikaru);
+    }
+}
@@ -0,0 +1,64 @@
+package com.chess.tournament.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Tournament Round")
+class RoundTest {
+
+    private final int[] white = {0, 2};
+    private final int[] black = {1, Round.BYE};
+
+    @Test
+    @DisplayName("Should keep its own copy of the board ordinals")
+    void shouldKeepOwnCopyOfBoardOrdinals() {
+        // When
+        var round = new Round(1, white, black);
+        white[0] = 3;
+        black[1] = 3;
+
+        // Then
+        assertThat(round.boards()).isEqualTo(2);
+        assertThat(round.white(1)).isZero();
+        assertThat(round.black(1)).isEqualTo(1);
+        assertThat(round.white(2)).isEqualTo(2);
+        assertThat(round.isBye(2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject boards that pair a player with themselves")
+    void shouldRejectBoardsPairingPlayerWithThemselves() {
+        assertThatThrownBy(() -> new Round(1, new int[]{4}, new int[]{4})).isInstanceOf(IllegalArgumentException.class).hasMessage("Board 1 of round 1 has an invalid pairing");
+    }
+
+    @Test
+    @DisplayName("Should record result without changing the original round")
+    void shouldRecordResultWithoutChangingOriginalRound() {
+        // Given
+        var round = new Round(1, white, black);
+
+        // When
+        var updated = round.withResult(1, GameResult.DRAW);
+
+        // Then
+        assertThat(round.getResult(1)).isEmpty();
+        assertThat(round.isComplete()).isFalse();
+        assertThat(updated.getResult(1)).contains(GameResult.DRAW);
+        assertThat(updated.isComplete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not record result for a bye or twice for the same board")
+    void shouldNotRecordResultForByeOrTwiceForSameBoard() {
+        // Given
+        var round = new Round(2, white, black).withResult(1, GameResult.WHITE_WINS);
+
+        // When // Then
+        assertThatThrownBy(() -> round.withResult(2, GameResult.WHITE_WINS)).isInstanceOf(IllegalStateException.class).hasMessage("Board 2 of round 2 is a bye");
+        assertThatThrownBy(() -> round.withResult(1, GameResult.BLACK_WINS)).isInstanceOf(IllegalStateException.class).hasMessage("Result for board 1 of round 2 is already recorded");
+        assertThatThrownBy(() -> round.withResult(3, GameResult.DRAW)).isInstanceOf(IllegalArgumentException.class).hasMessage("Board must be between 1 and 2 in round 2");
+    }
+}
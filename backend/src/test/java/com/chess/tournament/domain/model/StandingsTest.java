@@ -0,0 +1,128 @@
+package com.chess.tournament.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Tournament Standings")
+class StandingsTest {
+
+    private final TournamentPlayer alice = new TournamentPlayer(PlayerId.generate(), "Alice", 1800);
+    private final TournamentPlayer bob = new TournamentPlayer(PlayerId.generate(), "Bob", 1700);
+    private final TournamentPlayer carol = new TournamentPlayer(PlayerId.generate(), "Carol", 1600);
+    private final TournamentPlayer dave = new TournamentPlayer(PlayerId.generate(), "Dave", 1500);
+
+    private Standings standings;
+
+    @BeforeEach
+    void setUp() {
+        standings = new Standings();
+        standings.addPlayer(alice);
+        standings.addPlayer(bob);
+        standings.addPlayer(carol);
+        standings.addPlayer(dave);
+    }
+
+    @Test
+    @DisplayName("Should rank players by points and tie-breaks")
+    void shouldRankPlayersByPointsAndTieBreaks() {
+        // Given
+        standings.recordGame(alice.id(), bob.id(), GameResult.WHITE_WINS);
+        standings.recordGame(carol.id(), dave.id(), GameResult.DRAW);
+        standings.recordGame(alice.id(), carol.id(), GameResult.WHITE_WINS);
+        standings.recordGame(bob.id(), dave.id(), GameResult.BLACK_WINS);
+
+        // When
+        var ranking = standings.ranking();
+
+        // Then
+        assertThat(ranking).extracting(Standing::player).containsExactly(alice, dave, carol, bob);
+        assertThat(ranking).extracting(Standing::points).containsExactly(2.0, 1.5, 0.5, 0.0);
+        assertThat(ranking).extracting(Standing::buchholz).containsExactly(0.5, 0.5, 3.5, 3.5);
+        assertThat(ranking).extracting(Standing::sonnebornBerger).containsExactly(0.5, 0.25, 0.75, 0.0);
+        assertThat(ranking).extracting(Standing::rank).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Should update opponents tie-breaks when a later result is reported")
+    void shouldUpdateOpponentsTieBreaksWhenLaterResultIsReported() {
+        // Given
+        standings.recordGame(alice.id(), bob.id(), GameResult.DRAW);
+        var before = standings.ranking();
+
+        // When
+        standings.recordGame(alice.id(), carol.id(), GameResult.WHITE_WINS);
+
+        // Then
+        assertThat(before).filteredOn(standing -> standing.player().equals(bob)).singleElement().extracting(Standing::buchholz).isEqualTo(0.5);
+        var bobStanding = standings.ranking().stream().filter(standing -> standing.player().equals(bob)).findFirst().orElseThrow();
+        assertThat(bobStanding.buchholz()).isEqualTo(1.5);
+        assertThat(bobStanding.sonnebornBerger()).isEqualTo(0.75);
+    }
+
+    @Test
+    @DisplayName("Should drop best and worst opponent for Median-Buchholz")
+    void shouldDropBestAndWorstOpponentForMedianBuchholz() {
+        // Given
+        var erin = new TournamentPlayer(PlayerId.generate(), "Erin", 1400);
+        standings.addPlayer(erin);
+        standings.recordGame(bob.id(), carol.id(), GameResult.WHITE_WINS);
+        standings.recordGame(bob.id(), dave.id(), GameResult.WHITE_WINS);
+        standings.recordGame(alice.id(), bob.id(), GameResult.DRAW);
+        standings.recordGame(alice.id(), carol.id(), GameResult.DRAW);
+        standings.recordGame(alice.id(), erin.id(), GameResult.WHITE_WINS);
+
+        // When
+        var aliceStanding = standings.ranking().stream().filter(standing -> standing.player().equals(alice)).findFirst().orElseThrow();
+
+        // Then
+        assertThat(aliceStanding.buchholz()).isEqualTo(3.0);
+        assertThat(aliceStanding.medianBuchholz()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should track points and byes for pairing")
+    void shouldTrackPointsAndByesForPairing() {
+        // Given
+        standings.recordGame(alice.id(), bob.id(), GameResult.WHITE_WINS);
+        standings.recordGame(alice.id(), carol.id(), GameResult.DRAW);
+        standings.recordBye(dave.id(), true);
+
+        // When // Then
+        assertThat(standings.halfPoints(alice.id())).isEqualTo(3);
+        assertThat(standings.hasReceivedBye(alice.id())).isFalse();
+        assertThat(standings.halfPoints(dave.id())).isEqualTo(2);
+        assertThat(standings.hasReceivedBye(dave.id())).isTrue();
+        assertThatThrownBy(() -> standings.halfPoints(PlayerId.generate())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should leave copies untouched by later results")
+    void shouldLeaveCopiesUntouchedByLaterResults() {
+        // Given
+        var roster = new Roster();
+        var original = new Standings(roster);
+        for (TournamentPlayer player : List.of(alice, bob, carol, dave)) {
+            original.addPlayer(player);
+        }
+        original.recordGame(alice.id(), bob.id(), GameResult.WHITE_WINS);
+        original.recordGame(carol.id(), dave.id(), GameResult.DRAW);
+
+        // When
+        var copy = original.copy(roster.copy());
+        original.recordGame(bob.id(), carol.id(), GameResult.WHITE_WINS);
+        original.recordBye(dave.id(), true);
+
+        // Then
+        assertThat(original.halfPoints(bob.id())).isEqualTo(2);
+        assertThat(original.ranking().getFirst().player()).isEqualTo(dave);
+        assertThat(copy.halfPoints(bob.id())).isZero();
+        assertThat(copy.hasReceivedBye(dave.id())).isFalse();
+        assertThat(copy.ranking()).extracting(Standing::player).containsExactly(alice, carol, dave, bob);
+    }
+}
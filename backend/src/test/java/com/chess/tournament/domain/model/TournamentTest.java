@@ -1,10 +1,13 @@
 package com.chess.tournament.domain.model;
 
 import com.chess.tournament.application.exception.PlayerAlreadyRegisteredException;
+import com.chess.tournament.domain.service.PairingStrategies;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -125,4 +128,377 @@ class TournamentTest {
         // When // Then
         assertThatThrownBy(() -> tournament.registerPlayer(otherPlayerId, playerName, otherRating)).isInstanceOf(PlayerAlreadyRegisteredException.class).hasMessage("Player with name 'Magnus Carlsen' is already registered for this tournament");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should not register players once the tournament has started")
+    void shouldNotRegisterPlayersOnceStarted() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.SINGLE_ELIMINATION);
+        for (int i = 0; i < 4; i++) {
+            tournament.registerPlayer(PlayerId.generate(), "Player " + i, 1200 + i);
+        }
+        tournament.start();
+
+        // When // Then
+        assertThatThrownBy(() -> tournament.registerPlayer(PlayerId.generate(), "Late Player", 1500))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Players cannot be registered in current status: IN_PROGRESS");
+        assertThatThrownBy(() -> tournament.registerPlayers(List.of(new TournamentPlayer(PlayerId.generate(), "Late Player", 1500))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(tournament.getRegisteredPlayers()).hasSize(4);
+        assertThat(tournament.getTotalRounds()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should open rounds once and advance current round")
+    void shouldOpenRoundsOnceAndAdvanceCurrentRound() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 1200);
+        tournament.registerPlayer(PlayerId.generate(), "Player 2", 1300);
+        tournament.registerPlayer(PlayerId.generate(), "Player 3", 1400);
+        tournament.start();
+
+        // When
+        Round firstRound = tournament.openNextRound(PairingStrategies.forType(tournament.getType()));
+
+        // Then
+        assertThat(tournament.getCurrentRound()).isEqualTo(1);
+        assertThat(tournament.getRound(1)).containsSame(firstRound);
+        assertThat(tournament.getRound(2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not open next round before current round is complete")
+    void shouldNotOpenNextRoundBeforeCurrentRoundIsComplete() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 1200);
+        tournament.registerPlayer(PlayerId.generate(), "Player 2", 1300);
+        tournament.registerPlayer(PlayerId.generate(), "Player 3", 1400);
+        tournament.start();
+        var strategy = PairingStrategies.forType(tournament.getType());
+        tournament.openNextRound(strategy);
+
+        // When // Then
+        assertThatThrownBy(() -> tournament.openNextRound(strategy)).isInstanceOf(IllegalStateException.class).hasMessage("Round 1 is still in progress");
+
+        tournament.recordResult(1, 2, GameResult.DRAW);
+        Round secondRound = tournament.openNextRound(strategy);
+
+        assertThat(secondRound.getNumber()).isEqualTo(2);
+        assertThat(tournament.getCurrentRound()).isEqualTo(2);
+        assertThat(tournament.getRound(1).orElseThrow().getResult(2)).contains(GameResult.DRAW);
+    }
+
+    @Test
+    @DisplayName("Should complete the tournament once its final round is played")
+    void shouldCompleteTheTournamentOnceItsFinalRoundIsPlayed() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 1200);
+        tournament.registerPlayer(PlayerId.generate(), "Player 2", 1300);
+        tournament.registerPlayer(PlayerId.generate(), "Player 3", 1400);
+        tournament.start();
+        var strategy = PairingStrategies.forType(tournament.getType());
+
+        // When
+        for (int number = 1; number <= 3; number++) {
+            Round round = tournament.openNextRound(strategy);
+            assertThat(tournament.getStatus()).isEqualTo(TournamentStatus.IN_PROGRESS);
+            for (int board = 1; board <= round.boards(); board++) {
+                if (!round.isBye(board)) {
+                    tournament.recordResult(number, board, GameResult.DRAW);
+                }
+            }
+        }
+
+        // Then
+        assertThat(tournament.getTotalRounds()).isEqualTo(3);
+        assertThat(tournament.getStatus()).isEqualTo(TournamentStatus.COMPLETED);
+        assertThat(tournament.isReadyForNextRound()).isFalse();
+        assertThatThrownBy(() -> tournament.openNextRound(strategy)).isInstanceOf(IllegalStateException.class).hasMessage("Rounds can only be opened for a tournament in progress");
+    }
+
+    @Test
+    @DisplayName("Should not open rounds before tournament has started")
+    void shouldNotOpenRoundsBeforeTournamentHasStarted() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+
+        // When // Then
+        assertThatThrownBy(() -> tournament.openNextRound(PairingStrategies.forType(tournament.getType()))).isInstanceOf(IllegalStateException.class).hasMessage("Rounds can only be opened for a tournament in progress");
+    }
+
+    @Test
+    @DisplayName("Should advance knockout winners when results are recorded")
+    void shouldAdvanceKnockoutWinnersWhenResultsAreRecorded() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.SINGLE_ELIMINATION);
+        PlayerId player1 = PlayerId.generate();
+        PlayerId player2 = PlayerId.generate();
+        tournament.registerPlayer(player1, "Player 1", 1200);
+        tournament.registerPlayer(player2, "Player 2", 1300);
+        tournament.start();
+        tournament.openNextRound(PairingStrategies.forType(tournament.getType()));
+
+        // When // Then
+        assertThatThrownBy(() -> tournament.recordResult(1, 1, GameResult.DRAW)).isInstanceOf(IllegalArgumentException.class).hasMessage("Knockout games cannot end in a draw");
+
+        tournament.recordResult(1, 1, GameResult.BLACK_WINS);
+
+        assertThat(tournament.getBracket().orElseThrow().champion().map(TournamentPlayer::id)).contains(player2);
+    }
+
+    @Test
+    @DisplayName("Should store rounds as registration ordinals and resolve pairings on demand")
+    void shouldStoreRoundsAsOrdinalsAndResolvePairings() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+        PlayerId player1 = PlayerId.generate();
+        PlayerId player2 = PlayerId.generate();
+        PlayerId player3 = PlayerId.generate();
+        tournament.registerPlayer(player1, "Player 1", 1200);
+        tournament.registerPlayer(player2, "Player 2", 1300);
+        tournament.registerPlayer(player3, "Player 3", 1400);
+        tournament.start();
+
+        // When
+        Round round = tournament.openNextRound(PairingStrategies.forType(tournament.getType()));
+        var pairings = tournament.getPairings(round);
+
+        // Then
+        assertThat(pairings).hasSize(round.boards());
+        for (int board = 1; board <= round.boards(); board++) {
+            var pairing = pairings.get(board - 1);
+            assertThat(tournament.getOrdinal(pairing.whitePlayer())).isEqualTo(round.white(board));
+            assertThat(tournament.getPlayer(round.white(board)).name()).isEqualTo(pairing.whitePlayerName());
+            assertThat(pairing.blackPlayer() == null).isEqualTo(round.isBye(board));
+        }
+        assertThat(tournament.getOrdinal(player3)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not register player whose name differs only in case and spacing")
+    void shouldNotRegisterPlayerWhoseNameDiffersOnlyInCaseAndSpacing() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Magnus Carlsen", 2800);
+
+        // When // Then
+        assertThatThrownBy(() -> tournament.registerPlayer(PlayerId.generate(), "  magnus   CARLSEN ", 2700)).isInstanceOf(PlayerAlreadyRegisteredException.class).hasMessage("Player with name '  magnus   CARLSEN ' is already registered for this tournament");
+        assertThat(tournament.isNameRegistered("MAGNUS CARLSEN")).isTrue();
+        assertThat(tournament.isNameRegistered("Hikaru Nakamura")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should register batch of players in order")
+    void shouldRegisterBatchOfPlayersInOrder() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Magnus Carlsen", 2800);
+        var batch = List.of(new TournamentPlayer(PlayerId.generate(), "Hikaru Nakamura", 2750), new TournamentPlayer(PlayerId.generate(), "Fabiano Caruana", 2780));
+
+        // When
+        tournament.registerPlayers(batch);
+
+        // Then
+        assertThat(tournament.getRegisteredPlayers()).extracting(TournamentPlayer::name).containsExactly("Magnus Carlsen", "Hikaru Nakamura", "Fabiano Caruana");
+        assertThat(tournament.isNameRegistered("fabiano caruana")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject whole batch when it contains a duplicate")
+    void shouldRejectWholeBatchWhenItContainsDuplicate() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Magnus Carlsen", 2800);
+        var duplicateOfRoster = List.of(new TournamentPlayer(PlayerId.generate(), "Hikaru Nakamura", 2750), new TournamentPlayer(PlayerId.generate(), "Magnus Carlsen", 2800));
+        var duplicateWithinBatch = List.of(new TournamentPlayer(PlayerId.generate(), "Hikaru Nakamura", 2750), new TournamentPlayer(PlayerId.generate(), "hikaru nakamura", 2750));
+
+        // When // Then
+        assertThatThrownBy(() -> tournament.registerPlayers(duplicateOfRoster)).isInstanceOf(PlayerAlreadyRegisteredException.class).hasMessage("Player with name 'Magnus Carlsen' is already registered for this tournament");
+        assertThatThrownBy(() -> tournament.registerPlayers(duplicateWithinBatch)).isInstanceOf(PlayerAlreadyRegisteredException.class).hasMessage("Player with name 'hikaru nakamura' is already registered for this tournament");
+        assertThat(tournament.getRegisteredPlayers()).hasSize(1);
+        assertThat(tournament.isNameRegistered("Hikaru Nakamura")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should list players by rating and by name from maintained indexes")
+    void shouldListPlayersByRatingAndByName() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Hikaru Nakamura", 2750);
+        tournament.registerPlayer(PlayerId.generate(), "magnus Carlsen", 2800);
+        tournament.registerPlayers(List.of(new TournamentPlayer(PlayerId.generate(), "Fabiano Caruana", 2750), new TournamentPlayer(PlayerId.generate(), "Alireza Firouzja", 2760)));
+
+        // When
+        var byRating = tournament.getRegisteredPlayers(PlayerOrder.RATING);
+        var byName = tournament.getRegisteredPlayers(PlayerOrder.NAME);
+
+        // Then
+        assertThat(byRating).extracting(TournamentPlayer::name).containsExactly("magnus Carlsen", "Alireza Firouzja", "Hikaru Nakamura", "Fabiano Caruana");
+        assertThat(byName).extracting(TournamentPlayer::name).containsExactly("Alireza Firouzja", "Fabiano Caruana", "Hikaru Nakamura", "magnus Carlsen");
+        assertThat(tournament.getRegisteredPlayers(PlayerOrder.REGISTRATION)).extracting(TournamentPlayer::name).containsExactly("Hikaru Nakamura", "magnus Carlsen", "Fabiano Caruana", "Alireza Firouzja");
+    }
+
+    @Test
+    @DisplayName("Should page through players after a cursor in every order")
+    void shouldPageThroughPlayersAfterCursor() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+        for (int i = 0; i < 25; i++) {
+            tournament.registerPlayer(PlayerId.generate(), "Player " + (char) ('A' + (i * 7) % 25), 1500 + (i * 11) % 25 * 10);
+        }
+        var snapshot = tournament.snapshot();
+
+        for (PlayerOrder order : PlayerOrder.values()) {
+            // When
+            List<TournamentPlayer> paged = new ArrayList<>();
+            PlayerId after = null;
+            List<TournamentPlayer> page;
+            do {
+                page = snapshot.getRegisteredPlayers(order, after, 4);
+                paged.addAll(page);
+                after = page.isEmpty() ? null : page.getLast().id();
+            } while (page.size() == 4);
+
+            // Then
+            assertThat(paged).as(order.name()).containsExactlyElementsOf(snapshot.getRegisteredPlayers(order));
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave copies untouched by later registrations and results")
+    void shouldLeaveCopiesUntouchedByLaterRegistrationsAndResults() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Hikaru Nakamura", 2750);
+        var registered = tournament.snapshot();
+        tournament.registerPlayer(PlayerId.generate(), "Fabiano Caruana", 2750);
+        tournament.registerPlayer(PlayerId.generate(), "Alireza Firouzja", 2760);
+        tournament.registerPlayer(PlayerId.generate(), "Magnus Carlsen", 2830);
+        tournament.start();
+        tournament.openNextRound(PairingStrategies.forType(tournament.getType()));
+        var opened = tournament.snapshot();
+
+        // When
+        tournament.recordResult(1, 1, GameResult.WHITE_WINS);
+
+        // Then
+        assertThat(registered.getRegisteredPlayers(PlayerOrder.NAME)).extracting(TournamentPlayer::name).containsExactly("Hikaru Nakamura");
+        assertThat(registered.isNameRegistered("fabiano caruana")).isFalse();
+        assertThat(opened.getRound(1).orElseThrow().isComplete()).isFalse();
+        assertThat(opened.getStandings().ranking()).allSatisfy(standing -> assertThat(standing.points()).isZero());
+        assertThat(tournament.getRound(1).orElseThrow().getResult(1)).contains(GameResult.WHITE_WINS);
+        assertThat(tournament.getStandings().ranking().getFirst().points()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should keep copies that register different players after the same snapshot apart")
+    void shouldKeepDivergingCopiesApart() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SWISS);
+        tournament.registerPlayer(PlayerId.generate(), "Magnus Carlsen", 2830);
+        var stored = tournament.snapshot();
+        var first = stored.copy();
+        var second = stored.copy();
+
+        // When
+        first.registerPlayer(PlayerId.generate(), "Hikaru Nakamura", 2800);
+        second.registerPlayer(PlayerId.generate(), "Ding Liren", 2780);
+        second.registerPlayer(PlayerId.generate(), "Alireza Firouzja", 2760);
+
+        // Then
+        assertThat(first.getRegisteredPlayers(PlayerOrder.RATING)).extracting(TournamentPlayer::name)
+                                                                  .containsExactly("Magnus Carlsen", "Hikaru Nakamura");
+        assertThat(second.getRegisteredPlayers(PlayerOrder.NAME)).extracting(TournamentPlayer::name)
+                                                                 .containsExactly("Alireza Firouzja", "Ding Liren", "Magnus Carlsen");
+        assertThat(first.isNameRegistered("ding liren")).isFalse();
+        assertThat(second.isNameRegistered("hikaru nakamura")).isFalse();
+        assertThat(stored.getRegisteredPlayers()).extracting(TournamentPlayer::name).containsExactly("Magnus Carlsen");
+        assertThat(first.getStandings().ranking()).hasSize(2);
+        assertThat(second.getStandings().ranking()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should keep registering through copies linear in the number of players")
+    void shouldKeepRegisteringThroughCopiesLinear() {
+        // Given
+        registerThroughCopies(2_000);
+
+        // When
+        long small = Long.MAX_VALUE;
+        long large = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < 3; attempt++) {
+            small = Math.min(small, registerThroughCopies(2_000));
+            large = Math.min(large, registerThroughCopies(8_000));
+        }
+
+        // Then
+        assertThat(large).isLessThan(10 * small);
+    }
+
+    private static long registerThroughCopies(int players) {
+        long start = System.nanoTime();
+        Tournament stored = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SWISS).snapshot();
+        for (int i = 0; i < players; i++) {
+            Tournament loaded = stored.copy();
+            loaded.registerPlayer(PlayerId.generate(), "Player " + i, 1000 + (i * 7919) % 1500);
+            stored = loaded.snapshot();
+        }
+        assertThat(stored.getRegisteredPlayers(PlayerOrder.NAME)).hasSize(players);
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    @DisplayName("Should answer seeds, rating bands and ranks from the rating index")
+    void shouldAnswerSeedsRatingBandsAndRanks() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+        PlayerId hikaru = PlayerId.generate();
+        PlayerId fabiano = PlayerId.generate();
+        tournament.registerPlayer(hikaru, "Hikaru Nakamura", 2750);
+        tournament.registerPlayer(PlayerId.generate(), "Magnus Carlsen", 2830);
+        tournament.registerPlayers(List.of(new TournamentPlayer(fabiano, "Fabiano Caruana", 2750), new TournamentPlayer(PlayerId.generate(), "Ding Liren", 2700)));
+
+        // When
+        var snapshot = tournament.snapshot();
+        tournament.registerPlayer(PlayerId.generate(), "Alireza Firouzja", 2760);
+
+        // Then
+        assertThat(snapshot.getSeeds(1, 2)).extracting(TournamentPlayer::name).containsExactly("Magnus Carlsen", "Hikaru Nakamura");
+        assertThat(snapshot.getPlayersRatedBetween(2700, 2750)).extracting(TournamentPlayer::name).containsExactly("Hikaru Nakamura", "Fabiano Caruana", "Ding Liren");
+        assertThat(snapshot.getPlayersRatedBetween(2800, 2820)).isEmpty();
+        assertThat(snapshot.getSeed(fabiano)).isEqualTo(3);
+        assertThat(tournament.getSeed(fabiano)).isEqualTo(4);
+        assertThat(tournament.getSeeds(BracketSeeding.RATING)).extracting(TournamentPlayer::name)
+                                                               .containsExactly("Magnus Carlsen", "Alireza Firouzja", "Hikaru Nakamura", "Fabiano Caruana", "Ding Liren");
+    }
+
+    @Test
+    @DisplayName("Should reject cursor for a player that is not registered")
+    void shouldRejectUnknownCursor() {
+        // Given
+        LocalDate futureDate = LocalDate.now().plusDays(7);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", futureDate, TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Magnus Carlsen", 2800);
+
+        // When // Then
+        assertThatThrownBy(() -> tournament.getRegisteredPlayers(PlayerOrder.NAME, PlayerId.generate(), 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.chess.tournament.domain.service;
+
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.RatingChange;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Elo Rating Calculator")
+class EloRatingCalculatorTest {
+
+    private final EloRatingCalculator calculator = new EloRatingCalculator();
+
+    @Test
+    @DisplayName("Should rate recorded games")
+    void shouldRateRecordedGames() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 1500);
+        tournament.registerPlayer(PlayerId.generate(), "Player 2", 1500);
+        tournament.registerPlayer(PlayerId.generate(), "Player 3", 1900);
+        tournament.start();
+        tournament.openNextRound(PairingStrategies.forType(TournamentType.ROUND_ROBIN));
+        var pairings = tournament.getPairings(tournament.getRound(1).orElseThrow());
+        var pairing = pairings.stream().filter(p -> p.blackPlayer() != null).findFirst().orElseThrow();
+        int board = pairings.indexOf(pairing) + 1;
+        tournament.recordResult(1, board, GameResult.WHITE_WINS);
+
+        // When
+        var changes = calculator.calculate(tournament).asList();
+
+        // Then
+        var winner = changes.stream().filter(change -> change.player().id().equals(pairing.whitePlayer())).findFirst().orElseThrow();
+        var loser = changes.stream().filter(change -> change.player().id().equals(pairing.blackPlayer())).findFirst().orElseThrow();
+        assertThat(winner.gamesPlayed()).isEqualTo(1);
+        assertThat(winner.score()).isEqualTo(1.0);
+        assertThat(loser.score()).isEqualTo(0.0);
+        assertThat(winner.expectedScore() + loser.expectedScore()).isCloseTo(1.0, within(1e-9));
+        assertThat(winner.ratingChange()).isEqualTo(-loser.ratingChange());
+        assertThat(winner.newRating()).isEqualTo(winner.player().rating() + winner.ratingChange());
+        assertThat(winner.performanceRating()).isEqualTo(loser.player().rating() + 400);
+        assertThat(loser.performanceRating()).isEqualTo(winner.player().rating() - 400);
+    }
+
+    @Test
+    @DisplayName("Should score equal opponents at half expectation")
+    void shouldScoreEqualOpponentsAtHalfExpectation() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 1500);
+        tournament.registerPlayer(PlayerId.generate(), "Player 2", 1500);
+        tournament.start();
+        tournament.openNextRound(PairingStrategies.forType(TournamentType.ROUND_ROBIN));
+        tournament.recordResult(1, 1, GameResult.DRAW);
+
+        // When
+        var changes = calculator.calculate(tournament).asList();
+
+        // Then
+        assertThat(changes).extracting(RatingChange::expectedScore).containsExactly(0.5, 0.5);
+        assertThat(changes).extracting(RatingChange::ratingChange).containsExactly(0, 0);
+        assertThat(changes).extracting(RatingChange::performanceRating).containsExactly(1500, 1500);
+    }
+
+    @Test
+    @DisplayName("Should leave players without games unchanged")
+    void shouldLeavePlayersWithoutGamesUnchanged() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 1800);
+
+        // When
+        var changes = calculator.calculate(tournament);
+
+        // Then
+        assertThat(changes.size()).isEqualTo(1);
+        assertThat(changes.gamesPlayed(0)).isZero();
+        assertThat(changes.ratingChange(0)).isZero();
+        assertThat(changes.performanceRating(0)).isEqualTo(1800);
+    }
+}
@@ -1,5 +1,6 @@
 package com.chess.tournament.domain.service;
 
+import com.chess.tournament.domain.model.BracketSeeding;
 import com.chess.tournament.domain.model.PlayerId;
 import com.chess.tournament.domain.model.Tournament;
 import com.chess.tournament.domain.model.TournamentType;
@@ -7,8 +8,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("Round Robin Strategy")
 class RoundRobinStrategyTest {
@@ -101,4 +106,118 @@ class RoundRobinStrategyTest {
         assertThat(pairing.whitePlayerName()).isEqualTo("Magnus");
         assertThat(pairing.blackPlayerName()).isEqualTo("Hikaru");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should follow Berger table for later rounds")
+    void shouldFollowBergerTableForLaterRounds() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+
+        PlayerId player1 = PlayerId.generate();
+        PlayerId player2 = PlayerId.generate();
+        PlayerId player3 = PlayerId.generate();
+        PlayerId player4 = PlayerId.generate();
+
+        tournament.registerPlayer(player1, "Player 1", 1200);
+        tournament.registerPlayer(player2, "Player 2", 1300);
+        tournament.registerPlayer(player3, "Player 3", 1400);
+        tournament.registerPlayer(player4, "Player 4", 1500);
+
+        // When
+        var pairings = strategy.generatePairings(tournament, 2);
+
+        // Then
+        assertThat(pairings).hasSize(2);
+        assertThat(pairings.get(0).whitePlayer()).isEqualTo(player4);
+        assertThat(pairings.get(0).blackPlayer()).isEqualTo(player3);
+        assertThat(pairings.get(1).whitePlayer()).isEqualTo(player1);
+        assertThat(pairings.get(1).blackPlayer()).isEqualTo(player2);
+    }
+
+    @Test
+    @DisplayName("Should assign Berger numbers by rating when requested")
+    void shouldAssignBergerNumbersByRatingWhenRequested() {
+        // Given
+        var ratingStrategy = new RoundRobinStrategy(BracketSeeding.RATING);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+
+        PlayerId player1 = PlayerId.generate();
+        PlayerId player2 = PlayerId.generate();
+        PlayerId player3 = PlayerId.generate();
+        PlayerId player4 = PlayerId.generate();
+
+        tournament.registerPlayer(player1, "Player 1", 1200);
+        tournament.registerPlayer(player2, "Player 2", 1300);
+        tournament.registerPlayer(player3, "Player 3", 1400);
+        tournament.registerPlayer(player4, "Player 4", 1500);
+
+        // When
+        var pairings = ratingStrategy.generatePairings(tournament, 2);
+
+        // Then
+        assertThat(pairings).hasSize(2);
+        assertThat(pairings.get(0).whitePlayer()).isEqualTo(player1);
+        assertThat(pairings.get(0).blackPlayer()).isEqualTo(player2);
+        assertThat(pairings.get(1).whitePlayer()).isEqualTo(player4);
+        assertThat(pairings.get(1).blackPlayer()).isEqualTo(player3);
+    }
+
+    @Test
+    @DisplayName("Should pair every player with every other player exactly once over all rounds")
+    void shouldPairEveryPlayerWithEveryOtherPlayerExactlyOnce() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        int numPlayers = 7;
+        for (int i = 0; i < numPlayers; i++) {
+            tournament.registerPlayer(PlayerId.generate(), "Player " + (i + 1), 1200 + i);
+        }
+
+        // When
+        Set<Set<PlayerId>> games = new HashSet<>();
+        Set<PlayerId> byes = new HashSet<>();
+        for (int round = 1; round <= numPlayers; round++) {
+            for (var pairing : strategy.generatePairings(tournament, round)) {
+                if (pairing.blackPlayer() == null) {
+                    assertThat(byes.add(pairing.whitePlayer())).isTrue();
+                } else {
+                    assertThat(games.add(Set.of(pairing.whitePlayer(), pairing.blackPlayer()))).isTrue();
+                }
+            }
+        }
+
+        // Then
+        assertThat(games).hasSize(numPlayers * (numPlayers - 1) / 2);
+        assertThat(byes).hasSize(numPlayers);
+    }
+
+    @Test
+    @DisplayName("Should reject rounds outside of the schedule")
+    void shouldRejectRoundsOutsideOfTheSchedule() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 1200);
+        tournament.registerPlayer(PlayerId.generate(), "Player 2", 1300);
+        tournament.registerPlayer(PlayerId.generate(), "Player 3", 1400);
+
+        // When // Then
+        assertThatThrownBy(() -> strategy.generatePairings(tournament, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> strategy.generatePairings(tournament, 4)).isInstanceOf(IllegalArgumentException.class).hasMessage("Round must be between 1 and 3 for 4 players");
+    }
+
+    @Test
+    @DisplayName("Should hand every caller its own boards for a round")
+    void shouldHandEveryCallerItsOwnBoards() {
+        // Given
+        var table = BergerTable.forPlayers(9);
+        int[] expected = BergerTable.forPlayers(10).round(3);
+
+        // When
+        int[] boards = table.round(3);
+        boards[0] = -1;
+
+        // Then
+        assertThat(table.round(3)).isNotSameAs(boards).containsExactly(expected);
+        assertThat(List.of(table.size(), table.numberOfRounds())).containsExactly(10, 9);
+    }
+}
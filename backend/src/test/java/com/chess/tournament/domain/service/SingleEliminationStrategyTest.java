@@ -1,5 +1,6 @@
 package com.chess.tournament.domain.service;
 
+import com.chess.tournament.domain.model.BracketSeeding;
 import com.chess.tournament.domain.model.PlayerId;
 import com.chess.tournament.domain.model.Tournament;
 import com.chess.tournament.domain.model.TournamentType;
@@ -166,4 +167,59 @@ class SingleEliminationStrategyTest {
         assertThat(pairing.whitePlayerName()).isEqualTo("Alice");
         assertThat(pairing.blackPlayerName()).isEqualTo("Bob");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should seed bracket by rating when requested")
+    void shouldSeedBracketByRatingWhenRequested() {
+        // Given
+        var ratingStrategy = new SingleEliminationStrategy(BracketSeeding.RATING);
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SINGLE_ELIMINATION);
+
+        PlayerId weakest = PlayerId.generate();
+        PlayerId strongest = PlayerId.generate();
+        PlayerId second = PlayerId.generate();
+        PlayerId third = PlayerId.generate();
+
+        tournament.registerPlayer(weakest, "Weakest", 1200);
+        tournament.registerPlayer(strongest, "Strongest", 2700);
+        tournament.registerPlayer(third, "Third", 2100);
+        tournament.registerPlayer(second, "Second", 2400);
+
+        // When
+        var pairings = ratingStrategy.generatePairings(tournament, 1);
+
+        // Then
+        assertThat(pairings).hasSize(2);
+        assertThat(pairings.get(0).whitePlayer()).isEqualTo(strongest);
+        assertThat(pairings.get(0).blackPlayer()).isEqualTo(weakest);
+        assertThat(pairings.get(1).whitePlayer()).isEqualTo(second);
+        assertThat(pairings.get(1).blackPlayer()).isEqualTo(third);
+    }
+
+    @Test
+    @DisplayName("Should keep the drawn bracket once the tournament is in progress")
+    void shouldKeepDrawnBracketOnceTournamentIsInProgress() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SINGLE_ELIMINATION);
+
+        PlayerId player1 = PlayerId.generate();
+        PlayerId player2 = PlayerId.generate();
+        tournament.registerPlayer(player1, "Player 1", 1200);
+        tournament.registerPlayer(player2, "Player 2", 1300);
+        tournament.registerPlayer(PlayerId.generate(), "Player 3", 1400);
+        tournament.start();
+
+        var firstRound = strategy.generatePairings(tournament, 1);
+
+        // When
+        tournament.getBracket().orElseThrow().recordWinner(1, 2, player2);
+        var secondRound = strategy.generatePairings(tournament, 2);
+
+        // Then
+        assertThat(strategy.generatePairings(tournament, 1)).isSameAs(firstRound);
+        assertThat(secondRound).singleElement().satisfies(pairing -> {
+            assertThat(pairing.whitePlayer()).isEqualTo(player1);
+            assertThat(pairing.blackPlayer()).isEqualTo(player2);
+        });
+    }
+}
@@ -0,0 +1,300 @@
+package com.chess.tournament.domain.service;
+
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.Pairing;
+import com.chess.tournament.domain.model.PairingHistory;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.model.TournamentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Swiss Strategy")
+class SwissStrategyTest {
+
+    private final SwissStrategy strategy = new SwissStrategy();
+
+    @Test
+    @DisplayName("Should pair top half against bottom half by rating in first round")
+    void shouldPairTopHalfAgainstBottomHalfInFirstRound() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SWISS);
+
+        PlayerId player1 = PlayerId.generate();
+        PlayerId player2 = PlayerId.generate();
+        PlayerId player3 = PlayerId.generate();
+        PlayerId player4 = PlayerId.generate();
+
+        tournament.registerPlayer(player4, "Player 4", 1500);
+        tournament.registerPlayer(player1, "Player 1", 2800);
+        tournament.registerPlayer(player3, "Player 3", 2000);
+        tournament.registerPlayer(player2, "Player 2", 2500);
+
+        // When
+        var pairings = strategy.generatePairings(tournament, 1);
+
+        // Then
+        assertThat(pairings).hasSize(2);
+        assertThat(pairings.get(0).whitePlayer()).isEqualTo(player1);
+        assertThat(pairings.get(0).blackPlayer()).isEqualTo(player3);
+        assertThat(pairings.get(1).whitePlayer()).isEqualTo(player4);
+        assertThat(pairings.get(1).blackPlayer()).isEqualTo(player2);
+    }
+
+    @Test
+    @DisplayName("Should give bye to lowest rated player for odd number of players")
+    void shouldGiveByeToLowestRatedPlayer() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SWISS);
+
+        PlayerId lowestRated = PlayerId.generate();
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 1400);
+        tournament.registerPlayer(lowestRated, "Player 2", 1100);
+        tournament.registerPlayer(PlayerId.generate(), "Player 3", 1300);
+
+        // When
+        var pairings = strategy.generatePairings(tournament, 1);
+
+        // Then
+        assertThat(pairings).hasSize(2);
+        assertThat(pairings.getLast().whitePlayer()).isEqualTo(lowestRated);
+        assertThat(pairings.getLast().blackPlayer()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should generate empty pairings for single player")
+    void shouldGenerateEmptyPairingsForSinglePlayer() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SWISS);
+
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 1200);
+
+        // When
+        var pairings = strategy.generatePairings(tournament, 1);
+
+        // Then
+        assertThat(pairings).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should pair players within their score group")
+    void shouldPairPlayersWithinTheirScoreGroup() {
+        // Given
+        var leader1 = entrant("Leader 1", 0, 2000, 2);
+        var leader2 = entrant("Leader 2", 1, 1500, 2);
+        var trailer1 = entrant("Trailer 1", 2, 2400, 0);
+        var trailer2 = entrant("Trailer 2", 3, 2300, 0);
+
+        // When
+        var pairings = strategy.pair(List.of(trailer1, leader2, trailer2, leader1), history(4));
+
+        // Then
+        assertThat(pairings).hasSize(2);
+        assertThat(Set.of(pairings.get(0).whitePlayer(), pairings.get(0).blackPlayer())).containsExactlyInAnyOrder(leader1.player().id(), leader2.player().id());
+        assertThat(Set.of(pairings.get(1).whitePlayer(), pairings.get(1).blackPlayer())).containsExactlyInAnyOrder(trailer1.player().id(), trailer2.player().id());
+    }
+
+    @Test
+    @DisplayName("Should avoid rematches")
+    void shouldAvoidRematches() {
+        // Given
+        var player1 = new TournamentPlayer(PlayerId.generate(), "Player 1", 2000);
+        var player2 = new TournamentPlayer(PlayerId.generate(), "Player 2", 1900);
+        var player3 = new TournamentPlayer(PlayerId.generate(), "Player 3", 1800);
+        var player4 = new TournamentPlayer(PlayerId.generate(), "Player 4", 1700);
+
+        var history = history(4);
+        history.recordGame(0, 2);
+        history.recordGame(3, 1);
+        var entrants = List.of(
+                new SwissEntrant(player1, 0, 2, 1, 1, false),
+                new SwissEntrant(player2, 1, 2, -1, -1, false),
+                new SwissEntrant(player3, 2, 2, -1, -1, false),
+                new SwissEntrant(player4, 3, 2, 1, 1, false));
+
+        // When
+        var pairings = strategy.pair(entrants, history);
+
+        // Then
+        assertThat(pairings).hasSize(2);
+        Set<Set<PlayerId>> games = new HashSet<>();
+        pairings.forEach(p -> games.add(Set.of(p.whitePlayer(), p.blackPlayer())));
+        assertThat(games).doesNotContain(Set.of(player1.id(), player3.id()), Set.of(player2.id(), player4.id()));
+    }
+
+    @Test
+    @DisplayName("Should backtrack within a score group instead of pairing a rematch")
+    void shouldBacktrackWithinScoreGroupInsteadOfPairingRematch() {
+        // Given
+        var player1 = entrant("Player 1", 0, 2000, 2);
+        var player2 = entrant("Player 2", 1, 1900, 2);
+        var player3 = entrant("Player 3", 2, 1800, 2);
+        var player4 = entrant("Player 4", 3, 1700, 2);
+        var history = history(4);
+        history.recordGame(0, 2);
+        history.recordGame(1, 2);
+
+        // When
+        var pairings = strategy.pair(List.of(player1, player2, player3, player4), history);
+
+        // Then
+        assertThat(games(pairings)).containsExactlyInAnyOrder(Set.of(player1.player().id(), player2.player().id()),
+                Set.of(player3.player().id(), player4.player().id()));
+    }
+
+    @Test
+    @DisplayName("Should reopen the score group above before pairing a rematch")
+    void shouldReopenScoreGroupAboveBeforePairingRematch() {
+        // Given
+        var leader1 = entrant("Leader 1", 0, 2000, 2);
+        var leader2 = entrant("Leader 2", 1, 1900, 2);
+        var trailer1 = entrant("Trailer 1", 2, 1800, 0);
+        var trailer2 = entrant("Trailer 2", 3, 1700, 0);
+        var history = history(4);
+        history.recordGame(2, 3);
+
+        // When
+        var pairings = strategy.pair(List.of(leader1, leader2, trailer1, trailer2), history);
+
+        // Then
+        assertThat(pairings).hasSize(2);
+        assertThat(games(pairings)).doesNotContain(Set.of(leader1.player().id(), leader2.player().id()),
+                Set.of(trailer1.player().id(), trailer2.player().id()));
+    }
+
+    @Test
+    @DisplayName("Should find a pairing without rematches when the bounded search gives up")
+    void shouldFindPairingWithoutRematchesWhenBoundedSearchGivesUp() {
+        // Given
+        List<SwissEntrant> entrants = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            entrants.add(entrant("Player " + (i + 1), i, 2500 - 10 * i, 0));
+        }
+        var history = history(30);
+        for (int opponent = 1; opponent < 29; opponent++) {
+            history.recordGame(opponent, 29);
+        }
+
+        // When
+        var pairings = strategy.pair(entrants, history);
+
+        // Then
+        assertThat(pairings).hasSize(15);
+        assertThat(games(pairings)).contains(Set.of(entrants.getFirst().player().id(), entrants.getLast().player().id()));
+        for (Pairing pairing : pairings) {
+            assertThat(history.haveMet(ordinal(entrants, pairing.whitePlayer()), ordinal(entrants, pairing.blackPlayer()))).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should pair later rounds from recorded results")
+    void shouldPairLaterRoundsFromRecordedResults() {
+        // Given
+        var tournament = Tournament.create("Swiss Open", "Description", LocalDate.now().plusDays(7), TournamentType.SWISS);
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 2000);
+        tournament.registerPlayer(PlayerId.generate(), "Player 2", 1900);
+        tournament.registerPlayer(PlayerId.generate(), "Player 3", 1800);
+        tournament.registerPlayer(PlayerId.generate(), "Player 4", 1700);
+        tournament.start();
+        var firstRound = tournament.openNextRound(strategy);
+        tournament.recordResult(1, 1, GameResult.WHITE_WINS);
+        tournament.recordResult(1, 2, GameResult.BLACK_WINS);
+
+        // When
+        var pairings = strategy.generatePairings(tournament, 2);
+
+        // Then
+        var winners = Set.of(tournament.getPairing(firstRound, 1).whitePlayer(), tournament.getPairing(firstRound, 2).blackPlayer());
+        assertThat(pairings).hasSize(2);
+        assertThat(Set.of(pairings.getFirst().whitePlayer(), pairings.getFirst().blackPlayer())).isEqualTo(winners);
+        assertThat(pairings.getFirst().whitePlayer()).isEqualTo(tournament.getPairing(firstRound, 2).blackPlayer());
+    }
+
+    @Test
+    @DisplayName("Should balance colours according to colour history")
+    void shouldBalanceColoursAccordingToColourHistory() {
+        // Given
+        var hadWhite = new SwissEntrant(new TournamentPlayer(PlayerId.generate(), "Had White", 2000), 0, 2, 1, 1, false);
+        var hadBlack = new SwissEntrant(new TournamentPlayer(PlayerId.generate(), "Had Black", 1900), 1, 2, -1, -1, false);
+
+        // When
+        var pairings = strategy.pair(List.of(hadWhite, hadBlack), history(2));
+
+        // Then
+        assertThat(pairings).hasSize(1);
+        assertThat(pairings.getFirst().whitePlayer()).isEqualTo(hadBlack.player().id());
+        assertThat(pairings.getFirst().blackPlayer()).isEqualTo(hadWhite.player().id());
+    }
+
+    @Test
+    @DisplayName("Should not give a second bye to the same player")
+    void shouldNotGiveSecondByeToSamePlayer() {
+        // Given
+        var top = entrant("Top", 0, 2000, 2);
+        var middle = entrant("Middle", 1, 1800, 1);
+        var alreadyHadBye = new SwissEntrant(new TournamentPlayer(PlayerId.generate(), "Bottom", 1600), 2, 0, 0, 0, true);
+
+        // When
+        var pairings = strategy.pair(List.of(top, middle, alreadyHadBye), history(3));
+
+        // Then
+        assertThat(pairings).hasSize(2);
+        assertThat(pairings.getLast().blackPlayer()).isNull();
+        assertThat(pairings.getLast().whitePlayer()).isEqualTo(middle.player().id());
+    }
+
+    @Test
+    @DisplayName("Should pair every player exactly once in a large field")
+    void shouldPairEveryPlayerExactlyOnceInLargeField() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SWISS);
+        for (int i = 0; i < 2001; i++) {
+            tournament.registerPlayer(PlayerId.generate(), "Player " + (i + 1), 1000 + (i * 7) % 1800);
+        }
+
+        // When
+        var pairings = strategy.generatePairings(tournament, 1);
+
+        // Then
+        assertThat(pairings).hasSize(1001);
+        Set<PlayerId> paired = new HashSet<>();
+        pairings.forEach(p -> {
+            assertThat(paired.add(p.whitePlayer())).isTrue();
+            if (p.blackPlayer() != null) {
+                assertThat(paired.add(p.blackPlayer())).isTrue();
+            }
+        });
+        assertThat(paired).hasSize(2001);
+    }
+
+    private static SwissEntrant entrant(String name, int ordinal, int rating, int halfPoints) {
+        return new SwissEntrant(new TournamentPlayer(PlayerId.generate(), name, rating), ordinal, halfPoints, 0, 0, false);
+    }
+
+    private static int ordinal(List<SwissEntrant> entrants, PlayerId playerId) {
+        return entrants.stream().filter(entrant -> entrant.player().id().equals(playerId)).findFirst().orElseThrow().ordinal();
+    }
+
+    private static Set<Set<PlayerId>> games(List<Pairing> pairings) {
+        Set<Set<PlayerId>> games = new HashSet<>();
+        pairings.forEach(pairing -> games.add(Set.of(pairing.whitePlayer(), pairing.blackPlayer())));
+        return games;
+    }
+
+    private static PairingHistory history(int players) {
+        var history = new PairingHistory(players);
+        for (int i = 0; i < players; i++) {
+            history.addPlayer();
+        }
+        return history;
+    }
+}
@@ -0,0 +1,73 @@
+package com.chess.tournament.infrastructure.adapter.metrics;
+
+import com.chess.tournament.application.exception.PlayerAlreadyRegisteredException;
+import com.chess.tournament.application.usecase.RegisterPlayerCommand;
+import com.chess.tournament.application.usecase.RegisterPlayerUseCase;
+import com.chess.tournament.application.usecase.StartTournamentUseCase;
+import com.chess.tournament.domain.model.BracketSeeding;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentType;
+import com.chess.tournament.infrastructure.adapter.persistance.InMemoryTournamentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Use Case Metrics Aspect")
+class UseCaseMetricsAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final InMemoryTournamentRepository repository = new InMemoryTournamentRepository();
+    private final UseCaseMetricsAspect aspect = new UseCaseMetricsAspect(registry);
+
+    @Test
+    @DisplayName("Should time use cases and count rejected registrations")
+    void shouldTimeUseCasesAndCountRejectedRegistrations() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        repository.save(tournament);
+        RegisterPlayerUseCase registerPlayer = instrumented(new RegisterPlayerUseCase(repository, event -> {}));
+        var command = new RegisterPlayerCommand(tournament.getId().value().toString(), "Player 1", 1500);
+
+        // When
+        registerPlayer.execute(command);
+        assertThatThrownBy(() -> registerPlayer.execute(command)).isInstanceOf(PlayerAlreadyRegisteredException.class);
+
+        // Then
+        assertThat(registry.get("tournament.usecase").tag("usecase", "RegisterPlayerUseCase").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("tournament.usecase").tag("usecase", "RegisterPlayerUseCase").tag("outcome", "PlayerAlreadyRegisteredException").timer().count()).isEqualTo(1);
+        assertThat(registry.get("tournament.registrations.rejected").tag("source", "single").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should record roster size and pairings produced")
+    void shouldRecordRosterSizeAndPairingsProduced() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        for (int i = 1; i <= 5; i++) {
+            tournament.registerPlayer(PlayerId.generate(), "Player " + i, 1500 + i);
+        }
+        repository.save(tournament);
+        StartTournamentUseCase startTournament = instrumented(new StartTournamentUseCase(repository, event -> {}, BracketSeeding.REGISTRATION_ORDER));
+
+        // When
+        startTournament.execute(tournament.getId().value().toString());
+
+        // Then
+        assertThat(registry.get("tournament.pairings.roster.size").summary().totalAmount()).isEqualTo(5);
+        assertThat(registry.get("tournament.pairings.produced").summary().totalAmount()).isEqualTo(3);
+    }
+
+    private <T> T instrumented(T useCase) {
+        var factory = new AspectJProxyFactory(useCase);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+}
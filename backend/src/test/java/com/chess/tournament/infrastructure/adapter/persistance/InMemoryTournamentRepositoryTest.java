@@ -0,0 +1,195 @@
+package com.chess.tournament.infrastructure.adapter.persistance;
+
+import com.chess.tournament.application.exception.ConcurrentTournamentUpdateException;
+import com.chess.tournament.application.usecase.GetTournamentPlayersUseCase;
+import com.chess.tournament.application.usecase.GetTournamentUseCase;
+import com.chess.tournament.application.usecase.RegisterPlayerCommand;
+import com.chess.tournament.application.usecase.RegisterPlayerUseCase;
+import com.chess.tournament.application.usecase.StartTournamentUseCase;
+import com.chess.tournament.domain.model.BracketSeeding;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentSummary;
+import com.chess.tournament.domain.model.TournamentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("In-Memory Tournament Repository")
+class InMemoryTournamentRepositoryTest {
+
+    private static final int THREADS = 32;
+    private static final int OPERATIONS_PER_THREAD = 50;
+
+    private final InMemoryTournamentRepository repository = new InMemoryTournamentRepository();
+
+    @Test
+    @DisplayName("Should reject save based on a stale version")
+    void shouldRejectSaveBasedOnStaleVersion() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        repository.save(tournament);
+        Tournament first = repository.findById(tournament.getId()).orElseThrow();
+        Tournament second = repository.findById(tournament.getId()).orElseThrow();
+
+        first.registerPlayer(PlayerId.generate(), "Player 1", 1200);
+        repository.save(first);
+        second.registerPlayer(PlayerId.generate(), "Player 2", 1300);
+
+        // When // Then
+        assertThatThrownBy(() -> repository.save(second)).isInstanceOf(ConcurrentTournamentUpdateException.class);
+        assertThat(second.getVersion()).isEqualTo(1);
+        assertThat(repository.findById(tournament.getId()).orElseThrow().getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should serve read-only snapshots isolated from later writes")
+    void shouldServeReadOnlySnapshotsIsolatedFromLaterWrites() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 1200);
+        repository.save(tournament);
+        Tournament snapshot = repository.findSnapshotById(tournament.getId()).orElseThrow();
+
+        // When
+        tournament.registerPlayer(PlayerId.generate(), "Player 2", 1300);
+        repository.save(tournament);
+
+        // Then
+        assertThat(snapshot.getRegisteredPlayers()).hasSize(1);
+        assertThat(repository.findSnapshotById(tournament.getId()).orElseThrow().getRegisteredPlayers()).hasSize(2);
+        assertThatThrownBy(() -> snapshot.registerPlayer(PlayerId.generate(), "Player 3", 1400)).isInstanceOf(IllegalStateException.class).hasMessage("Tournament snapshot is read-only");
+    }
+
+    @Test
+    @DisplayName("Should not lose updates under concurrent registrations, starts and reads")
+    void shouldNotLoseUpdatesUnderConcurrentRegistrationsStartsAndReads() throws InterruptedException {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        repository.save(tournament);
+        String tournamentId = tournament.getId().value().toString();
+
+        var registerPlayer = new RegisterPlayerUseCase(repository, event -> {});
+        var startTournament = new StartTournamentUseCase(repository, event -> {}, BracketSeeding.REGISTRATION_ORDER);
+        var getPlayers = new GetTournamentPlayersUseCase(repository);
+        var getTournament = new GetTournamentUseCase(repository);
+
+        var registrations = new AtomicInteger();
+        var starts = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        var startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // When
+        for (int thread = 0; thread < THREADS; thread++) {
+            int threadNumber = thread;
+            executor.submit(() -> {
+                try {
+                    startGate.await();
+                    for (int operation = 0; operation < OPERATIONS_PER_THREAD; operation++) {
+                        switch (threadNumber % 8) {
+                            case 0 -> {
+                                getPlayers.execute(tournamentId).forEach(player -> assertThat(player.name()).isNotBlank());
+                                getTournament.execute(tournamentId);
+                            }
+                            case 1 -> {
+                                try {
+                                    startTournament.execute(tournamentId);
+                                    starts.incrementAndGet();
+                                } catch (IllegalStateException | ConcurrentTournamentUpdateException expected) {
+                                    // not enough players yet, already started, or lost every retry
+                                }
+                            }
+                            default -> {
+                                try {
+                                    registerPlayer.execute(new RegisterPlayerCommand(tournamentId, "Player " + threadNumber + "-" + operation, 1200));
+                                    registrations.incrementAndGet();
+                                } catch (IllegalStateException | ConcurrentTournamentUpdateException expected) {
+                                    // registration closed by a start, or lost every optimistic retry
+                                }
+                            }
+                        }
+                    }
+                } catch (Throwable t) {
+                    unexpected.add(t);
+                }
+            });
+        }
+        startGate.countDown();
+        executor.shutdown();
+
+        // Then
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(unexpected).isEmpty();
+
+        Tournament stored = repository.findSnapshotById(tournament.getId()).orElseThrow();
+        assertThat(stored.getRegisteredPlayers()).hasSize(registrations.get());
+        assertThat(starts.get()).isLessThanOrEqualTo(1);
+        assertThat(stored.getStatus()).isEqualTo(starts.get() == 1 ? TournamentStatus.IN_PROGRESS : TournamentStatus.PLANNED);
+        assertThat(stored.getVersion()).isEqualTo(1L + registrations.get() + starts.get());
+    }
+
+    @Test
+    @DisplayName("Should move tournaments between status indexes, count and page through them")
+    void shouldListTournamentsByStatus() {
+        // Given
+        List<Tournament> tournaments = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Tournament tournament = Tournament.create("Club Night " + i, "Description", LocalDate.now().plusDays(10 - i), TournamentType.SWISS);
+            tournament.registerPlayer(PlayerId.generate(), "Player 1", 1200);
+            tournament.registerPlayer(PlayerId.generate(), "Player 2", 1300);
+            repository.save(tournament);
+            tournaments.add(tournament);
+        }
+        tournaments.get(1).start();
+        repository.save(tournaments.get(1));
+        tournaments.get(3).start();
+        repository.save(tournaments.get(3));
+
+        // When
+        var firstPage = repository.findByStatus(TournamentStatus.PLANNED, null, 2);
+        var secondPage = repository.findByStatus(TournamentStatus.PLANNED, firstPage.getLast().id(), 2);
+        var inProgress = repository.findByStatus(TournamentStatus.IN_PROGRESS, null, 10);
+
+        // Then
+        assertThat(firstPage).extracting(TournamentSummary::name).containsExactly("Club Night 4", "Club Night 2");
+        assertThat(secondPage).extracting(TournamentSummary::name).containsExactly("Club Night 0");
+        assertThat(inProgress).extracting(TournamentSummary::name).containsExactly("Club Night 3", "Club Night 1");
+        assertThat(repository.countByStatus()).isEqualTo(Map.of(TournamentStatus.PLANNED, 3L, TournamentStatus.IN_PROGRESS, 2L));
+        assertThat(repository.countByStatus(TournamentStatus.COMPLETED)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should find tournaments by start date range and name prefix")
+    void shouldFindTournamentsByStartDateAndNamePrefix() {
+        // Given
+        LocalDate today = LocalDate.now();
+        repository.save(Tournament.create("Spring Open", "Description", today.plusDays(3), TournamentType.SWISS));
+        repository.save(Tournament.create("spring blitz", "Description", today.plusDays(5), TournamentType.SWISS));
+        repository.save(Tournament.create("Summer Open", "Description", today.plusDays(30), TournamentType.SWISS));
+
+        // When
+        var nextWeek = repository.findByStartDateBetween(today, today.plusDays(7), null, 10);
+        var spring = repository.findByNamePrefix("  SPRING ", null, 10);
+
+        // Then
+        assertThat(nextWeek).extracting(TournamentSummary::name).containsExactly("Spring Open", "spring blitz");
+        assertThat(spring).extracting(TournamentSummary::name).containsExactly("spring blitz", "Spring Open");
+        assertThat(repository.findByNamePrefix("spring", spring.getFirst().id(), 10)).extracting(TournamentSummary::name).containsExactly("Spring Open");
+    }
+}
@@ -0,0 +1,145 @@
+package com.chess.tournament.infrastructure.adapter.persistance;
+
+import com.chess.tournament.application.exception.ConcurrentTournamentUpdateException;
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentType;
+import com.chess.tournament.domain.service.PairingStrategies;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Journal Tournament Repository")
+class JournalTournamentRepositoryTest {
+
+    private static final int SEGMENT_SIZE = 1 << 16;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should restore tournaments from the journal after restart")
+    void shouldRestoreTournamentsFromJournalAfterRestart() throws Exception {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", null, LocalDate.now().plusDays(7), TournamentType.SWISS);
+        try (var repository = new JournalTournamentRepository(directory, SEGMENT_SIZE, Long.MAX_VALUE)) {
+            repository.save(tournament);
+            tournament.registerPlayers(players(5));
+            repository.save(tournament);
+            tournament.start();
+            tournament.openNextRound(PairingStrategies.forType(TournamentType.SWISS));
+            tournament.recordResult(1, 1, GameResult.DRAW);
+            repository.save(tournament);
+        }
+
+        // When
+        try (var repository = new JournalTournamentRepository(directory, SEGMENT_SIZE, Long.MAX_VALUE)) {
+            Tournament restored = repository.findById(tournament.getId()).orElseThrow();
+
+            // Then
+            assertThat(restored.getVersion()).isEqualTo(3);
+            assertThat(restored.getDescription()).isNull();
+            assertThat(restored.getStatus()).isEqualTo(TournamentStatus.IN_PROGRESS);
+            assertThat(new ArrayList<>(restored.getRegisteredPlayers())).isEqualTo(new ArrayList<>(tournament.getRegisteredPlayers()));
+            assertThat(restored.getPairings(restored.getRound(1).orElseThrow())).isEqualTo(tournament.getPairings(tournament.getRound(1).orElseThrow()));
+            assertThat(restored.getRound(1).orElseThrow().getResult(1)).contains(GameResult.DRAW);
+            assertThat(restored.getStandings().ranking()).isEqualTo(tournament.getStandings().ranking());
+        }
+    }
+
+    @Test
+    @DisplayName("Should replay snapshot and journal tail")
+    void shouldReplaySnapshotAndJournalTail() throws Exception {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        try (var repository = new JournalTournamentRepository(directory, SEGMENT_SIZE, Long.MAX_VALUE)) {
+            repository.save(tournament);
+            for (int batch = 0; batch < 20; batch++) {
+                tournament.registerPlayers(players(50));
+                repository.save(tournament);
+            }
+            repository.writeSnapshot();
+            tournament.registerPlayer(PlayerId.generate(), "Late Entry", 1200);
+            repository.save(tournament);
+        }
+
+        // When
+        try (var repository = new JournalTournamentRepository(directory, SEGMENT_SIZE, Long.MAX_VALUE)) {
+            Tournament restored = repository.findById(tournament.getId()).orElseThrow();
+
+            // Then
+            assertThat(Files.exists(directory.resolve("snapshot.bin"))).isTrue();
+            assertThat(Files.exists(directory.resolve("journal-0000000000000000.log"))).isFalse();
+            assertThat(restored.getVersion()).isEqualTo(22);
+            assertThat(restored.getRegisteredPlayers()).hasSize(1001);
+            assertThat(restored.isNameRegistered("late entry")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject save based on a stale version without journaling it")
+    void shouldRejectSaveBasedOnStaleVersionWithoutJournalingIt() throws Exception {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        try (var repository = new JournalTournamentRepository(directory, SEGMENT_SIZE, Long.MAX_VALUE)) {
+            repository.save(tournament);
+            Tournament first = repository.findById(tournament.getId()).orElseThrow();
+            Tournament second = repository.findById(tournament.getId()).orElseThrow();
+            first.registerPlayer(PlayerId.generate(), "Player 1", 1200);
+            repository.save(first);
+            second.registerPlayer(PlayerId.generate(), "Player 2", 1300);
+
+            // When // Then
+            assertThatThrownBy(() -> repository.save(second)).isInstanceOf(ConcurrentTournamentUpdateException.class);
+        }
+        try (var repository = new JournalTournamentRepository(directory, SEGMENT_SIZE, Long.MAX_VALUE)) {
+            assertThat(repository.findById(tournament.getId()).orElseThrow().getRegisteredPlayers())
+                    .extracting(TournamentPlayer::name)
+                    .containsExactly("Player 1");
+        }
+    }
+
+    @Test
+    @DisplayName("Should not publish a change the journal could not append")
+    void shouldNotPublishChangeTheJournalCouldNotAppend() throws Exception {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        try (var repository = new JournalTournamentRepository(directory, SEGMENT_SIZE, Long.MAX_VALUE)) {
+            repository.save(tournament);
+            Tournament oversized = repository.findById(tournament.getId()).orElseThrow();
+            oversized.registerPlayers(players(2_000));
+
+            // When // Then
+            assertThatThrownBy(() -> repository.save(oversized)).isInstanceOf(IllegalArgumentException.class);
+            assertThat(oversized.getVersion()).isEqualTo(1);
+            assertThat(repository.findById(tournament.getId()).orElseThrow().getRegisteredPlayers()).isEmpty();
+            assertThat(repository.findVersionById(tournament.getId())).hasValue(1);
+
+            Tournament retried = repository.findById(tournament.getId()).orElseThrow();
+            retried.registerPlayers(players(3));
+            repository.save(retried);
+        }
+        try (var repository = new JournalTournamentRepository(directory, SEGMENT_SIZE, Long.MAX_VALUE)) {
+            assertThat(repository.findById(tournament.getId()).orElseThrow().getRegisteredPlayers()).hasSize(3);
+        }
+    }
+
+    private static List<TournamentPlayer> players(int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> new TournamentPlayer(PlayerId.generate(), "Player " + PlayerId.generate().value(), 1000 + i))
+                        .toList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.chess.tournament.infrastructure.adapter.persistance;
+
+import com.chess.tournament.application.exception.ConcurrentTournamentUpdateException;
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentId;
+import com.chess.tournament.domain.model.TournamentPlayer;
+import com.chess.tournament.domain.model.TournamentStatus;
+import com.chess.tournament.domain.model.TournamentSummary;
+import com.chess.tournament.domain.model.TournamentType;
+import com.chess.tournament.domain.service.PairingStrategies;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:tournaments;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("jpa")
+@Import(JpaTournamentRepository.class)
+@DisplayName("JPA Tournament Repository")
+class JpaTournamentRepositoryTest {
+
+    @Autowired
+    private JpaTournamentRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should persist roster in registration order")
+    void shouldPersistRosterInRegistrationOrder() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        List<TournamentPlayer> players = IntStream.rangeClosed(1, 50)
+                .mapToObj(i -> new TournamentPlayer(PlayerId.generate(), "Player " + i, 1000 + i))
+                .toList();
+        tournament.registerPlayers(players);
+
+        // When
+        repository.save(tournament);
+        entityManager.clear();
+        Tournament loaded = repository.findById(tournament.getId()).orElseThrow();
+
+        // Then
+        assertThat(loaded.getVersion()).isEqualTo(1);
+        assertThat(loaded.getName()).isEqualTo("Test Tournament");
+        assertThat(loaded.getRegisteredPlayers()).containsExactlyElementsOf(players);
+        assertThat(loaded.isNameRegistered("player 17")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should restore rounds and results")
+    void shouldRestoreRoundsAndResults() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.SINGLE_ELIMINATION);
+        IntStream.rangeClosed(1, 4).forEach(i -> tournament.registerPlayer(PlayerId.generate(), "Player " + i, 1000 + i));
+        tournament.start();
+        tournament.openNextRound(PairingStrategies.forType(TournamentType.SINGLE_ELIMINATION));
+        repository.save(tournament);
+        tournament.recordResult(1, 1, GameResult.WHITE_WINS);
+        tournament.recordResult(1, 2, GameResult.BLACK_WINS);
+
+        // When
+        repository.save(tournament);
+        entityManager.clear();
+        Tournament loaded = repository.findById(tournament.getId()).orElseThrow();
+
+        // Then
+        assertThat(loaded.getVersion()).isEqualTo(2);
+        assertThat(loaded.getStatus()).isEqualTo(TournamentStatus.IN_PROGRESS);
+        assertThat(loaded.getCurrentRound()).isEqualTo(1);
+        assertThat(loaded.getPairings(loaded.getRound(1).orElseThrow())).isEqualTo(tournament.getPairings(tournament.getRound(1).orElseThrow()));
+        assertThat(loaded.getRound(1).orElseThrow().getResult(2)).contains(GameResult.BLACK_WINS);
+        assertThat(loaded.getRound(1).orElseThrow().isComplete()).isTrue();
+
+        var finalRound = loaded.openNextRound(PairingStrategies.forType(TournamentType.SINGLE_ELIMINATION));
+        var firstRound = tournament.getRound(1).orElseThrow();
+        assertThat(loaded.getPairings(finalRound)).singleElement().satisfies(pairing -> {
+            assertThat(pairing.whitePlayer()).isEqualTo(tournament.getPairing(firstRound, 1).whitePlayer());
+            assertThat(pairing.blackPlayer()).isEqualTo(tournament.getPairing(firstRound, 2).blackPlayer());
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject save based on a stale version")
+    void shouldRejectSaveBasedOnStaleVersion() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        repository.save(tournament);
+        entityManager.clear();
+        Tournament first = repository.findById(tournament.getId()).orElseThrow();
+        Tournament second = repository.findById(tournament.getId()).orElseThrow();
+
+        first.registerPlayer(PlayerId.generate(), "Player 1", 1200);
+        repository.save(first);
+        second.registerPlayer(PlayerId.generate(), "Player 2", 1300);
+
+        // When // Then
+        assertThatThrownBy(() -> repository.save(second)).isInstanceOf(ConcurrentTournamentUpdateException.class);
+        assertThat(first.getVersion()).isEqualTo(2);
+        assertThat(second.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report the saved version without loading the tournament")
+    void shouldReportSavedVersion() {
+        // Given
+        Tournament tournament = Tournament.create("Test Tournament", "Description", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        repository.save(tournament);
+        tournament.registerPlayer(PlayerId.generate(), "Player 1", 1200);
+        repository.save(tournament);
+        entityManager.clear();
+
+        // When
+        var version = repository.findVersionById(tournament.getId());
+
+        // Then
+        assertThat(version).hasValue(tournament.getVersion());
+        assertThat(repository.findVersionById(TournamentId.generate())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should list tournament summaries by status, start date and name prefix")
+    void shouldListTournamentSummaries() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Tournament springOpen = Tournament.create("Spring Open", "Description", today.plusDays(3), TournamentType.SWISS);
+        springOpen.registerPlayer(PlayerId.generate(), "Player 1", 1200);
+        springOpen.registerPlayer(PlayerId.generate(), "Player 2", 1300);
+        repository.save(springOpen);
+        repository.save(Tournament.create("spring_blitz", "Description", today.plusDays(5), TournamentType.SWISS));
+        repository.save(Tournament.create("Summer Open", "Description", today.plusDays(30), TournamentType.SWISS));
+        springOpen.start();
+        repository.save(springOpen);
+        entityManager.clear();
+
+        // When
+        var planned = repository.findByStatus(TournamentStatus.PLANNED, null, 10);
+        var nextWeek = repository.findByStartDateBetween(today, today.plusDays(7), null, 1);
+        var spring = repository.findByNamePrefix("SPRING_", null, 10);
+
+        // Then
+        assertThat(planned).extracting(TournamentSummary::name).containsExactly("spring_blitz", "Summer Open");
+        assertThat(nextWeek).extracting(TournamentSummary::name).containsExactly("Spring Open");
+        assertThat(repository.findByStartDateBetween(today, today.plusDays(7), nextWeek.getLast().id(), 10)).extracting(TournamentSummary::name).containsExactly("spring_blitz");
+        assertThat(spring).extracting(TournamentSummary::name).containsExactly("spring_blitz");
+    }
+}
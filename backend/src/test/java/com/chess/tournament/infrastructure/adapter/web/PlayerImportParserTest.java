@@ -0,0 +1,100 @@
+package com.chess.tournament.infrastructure.adapter.web;
+
+import com.chess.tournament.application.usecase.PlayerImportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Player Import Parser")
+class PlayerImportParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should skip the CSV header and unquote quoted names")
+    void shouldSkipCsvHeaderAndUnquoteNames() {
+        // Given
+        String csv = """
+                playerName,rating
+                Magnus Carlsen,2830
+                "Nakamura, Hikaru", 2800
+                "Fabiano ""Fabi"" Caruana",2790
+                """;
+
+        // When
+        List<PlayerImportRow> rows = parse(csv, PlayerImportParser.Format.CSV);
+
+        // Then
+        assertThat(rows).containsExactly(
+                PlayerImportRow.valid(2, "Magnus Carlsen", 2830),
+                PlayerImportRow.valid(3, "Nakamura, Hikaru", 2800),
+                PlayerImportRow.valid(4, "Fabiano \"Fabi\" Caruana", 2790));
+    }
+
+    @Test
+    @DisplayName("Should skip blank CSV lines and report malformed ones against their line")
+    void shouldSkipBlankCsvLinesAndReportMalformedOnes() {
+        // Given
+        String csv = """
+                Magnus Carlsen,2830
+
+                Hikaru Nakamura
+                Fabiano Caruana,top
+                "Ding Liren,2780
+                Alireza Firouzja,2760
+                """;
+
+        // When
+        List<PlayerImportRow> rows = parse(csv, PlayerImportParser.Format.CSV);
+
+        // Then
+        assertThat(rows).containsExactly(
+                PlayerImportRow.valid(1, "Magnus Carlsen", 2830),
+                PlayerImportRow.invalid(3, "Expected 2 columns: playerName,rating"),
+                PlayerImportRow.invalid(4, "Rating must be a whole number"),
+                PlayerImportRow.invalid(5, "Expected 2 columns: playerName,rating"),
+                PlayerImportRow.valid(6, "Alireza Firouzja", 2760));
+    }
+
+    @Test
+    @DisplayName("Should report null, incomplete and malformed NDJSON lines as row errors")
+    void shouldReportInvalidNdjsonLinesAsRowErrors() {
+        // Given
+        String ndjson = """
+                {"playerName":"Magnus Carlsen","rating":2830}
+                null
+
+                {"playerName":"Hikaru Nakamura"}
+                {"playerName":"Fabiano Caruana","rating":null}
+                {"playerName":"Ding Liren","rating":
+                {"playerName":"Alireza Firouzja","rating":2760}
+                """;
+
+        // When
+        List<PlayerImportRow> rows = parse(ndjson, PlayerImportParser.Format.NDJSON);
+
+        // Then
+        assertThat(rows).extracting(PlayerImportRow::line).containsExactly(1L, 2L, 4L, 5L, 6L, 7L);
+        assertThat(rows).extracting(PlayerImportRow::isValid).containsExactly(true, false, false, false, false, true);
+        assertThat(rows.get(1).error()).isEqualTo("Expected an object with playerName and rating");
+        assertThat(rows.get(2).error()).startsWith("Invalid player:").contains("rating");
+        assertThat(rows.get(3).error()).startsWith("Invalid player:");
+        assertThat(rows.get(4).error()).startsWith("Malformed JSON:");
+        assertThat(rows.get(5)).isEqualTo(PlayerImportRow.valid(7, "Alireza Firouzja", 2760));
+    }
+
+    private List<PlayerImportRow> parse(String content, PlayerImportParser.Format format) {
+        var parser = new PlayerImportParser(new BufferedReader(new StringReader(content)), format,
+                objectMapper.readerFor(RegisterPlayerRequest.class));
+        List<PlayerImportRow> rows = new ArrayList<>();
+        parser.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,111 @@
+package com.chess.tournament.infrastructure.adapter.web;
+
+import com.chess.tournament.domain.model.GameResult;
+import com.chess.tournament.domain.model.PlayerId;
+import com.chess.tournament.domain.model.Round;
+import com.chess.tournament.domain.model.Tournament;
+import com.chess.tournament.domain.model.TournamentType;
+import com.chess.tournament.domain.service.PairingStrategies;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Tournament Binary Codec")
+class TournamentBinaryCodecTest {
+
+    @Test
+    @DisplayName("Should restore an exported tournament without loss")
+    void shouldRestoreExportedTournamentWithoutLoss() throws IOException {
+        // Given
+        var tournament = Tournament.create("Ørsted Open ♞", null, LocalDate.now().plusDays(7), TournamentType.SWISS);
+        for (int i = 0; i < 7; i++) {
+            tournament.registerPlayer(PlayerId.generate(), "Spieler Nº" + i, 1500 + 37 * i);
+        }
+        tournament.start();
+        var round = tournament.openNextRound(PairingStrategies.forType(TournamentType.SWISS));
+        tournament.recordResult(1, 1, GameResult.WHITE_WINS);
+        tournament.recordResult(1, 2, GameResult.DRAW);
+        tournament.markSaved(4);
+
+        // When
+        var restored = TournamentBinaryCodec.decode(Channels.newChannel(new ByteArrayInputStream(encode(tournament))));
+
+        // Then
+        assertThat(restored.getId()).isEqualTo(tournament.getId());
+        assertThat(restored.getName()).isEqualTo("Ørsted Open ♞");
+        assertThat(restored.getDescription()).isNull();
+        assertThat(restored.getStartDate()).isEqualTo(tournament.getStartDate());
+        assertThat(restored.getStatus()).isEqualTo(tournament.getStatus());
+        assertThat(restored.getVersion()).isEqualTo(4);
+        assertThat(restored.getRegisteredPlayers()).containsExactlyElementsOf(tournament.getRegisteredPlayers());
+        Round restoredRound = restored.getRound(1).orElseThrow();
+        assertThat(restored.getPairings(restoredRound)).isEqualTo(tournament.getPairings(round));
+        for (int board = 1; board <= round.boards(); board++) {
+            assertThat(restoredRound.getResult(board)).isEqualTo(tournament.getRound(1).orElseThrow().getResult(board));
+        }
+        assertThat(restored.getStandings().ranking()).isEqualTo(tournament.getStandings().ranking());
+    }
+
+    @Test
+    @DisplayName("Should decode from a channel that delivers a few bytes at a time")
+    void shouldDecodeFromSlowChannel() throws IOException {
+        // Given
+        var tournament = Tournament.create("Club Championship", "Weekly", LocalDate.now().plusDays(7), TournamentType.ROUND_ROBIN);
+        for (int i = 0; i < 50; i++) {
+            tournament.registerPlayer(PlayerId.generate(), "Player " + i, 1200 + i);
+        }
+        var input = ByteBuffer.wrap(encode(tournament));
+        ReadableByteChannel channel = new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer target) {
+                if (!input.hasRemaining()) {
+                    return -1;
+                }
+                int length = Math.min(3, Math.min(input.remaining(), target.remaining()));
+                target.put(input.slice(input.position(), length));
+                input.position(input.position() + length);
+                return length;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        // When
+        var restored = TournamentBinaryCodec.decode(channel);
+
+        // Then
+        assertThat(restored.getRegisteredPlayers()).containsExactlyElementsOf(tournament.getRegisteredPlayers());
+        assertThat(restored.getDescription()).isEqualTo("Weekly");
+    }
+
+    @Test
+    @DisplayName("Should reject data that is not a tournament export")
+    void shouldRejectForeignData() {
+        var channel = Channels.newChannel(new ByteArrayInputStream("{\"name\":\"json\"}".getBytes()));
+
+        assertThatThrownBy(() -> TournamentBinaryCodec.decode(channel)).isInstanceOf(IllegalArgumentException.class).hasMessage("Not a tournament export");
+    }
+
+    private static byte[] encode(Tournament tournament) throws IOException {
+        var output = new ByteArrayOutputStream();
+        TournamentBinaryCodec.encode(tournament, Channels.newChannel(output));
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,149 @@
+package com.chess.tournament.infrastructure.adapter.web;
+
+import com.chess.tournament.domain.model.TournamentEvent;
+import com.chess.tournament.domain.model.TournamentId;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tournament Event Hub")
+class TournamentEventHubTest {
+
+    @Test
+    @DisplayName("Should fan an event out to every subscriber of its tournament only")
+    void shouldFanEventsOutToSubscribersOfTheirTournament() throws InterruptedException {
+        // Given
+        try (var hub = new TournamentEventHub(new ObjectMapper())) {
+            TournamentId tournamentId = TournamentId.generate();
+            var first = new RecordingEmitter();
+            var second = new RecordingEmitter();
+            var other = new RecordingEmitter();
+            hub.subscribe(tournamentId, first);
+            hub.subscribe(tournamentId, second);
+            hub.subscribe(TournamentId.generate(), other);
+
+            // When
+            hub.publish(new TournamentEvent.TournamentStarted(tournamentId, 1));
+            hub.publish(new TournamentEvent.TournamentStarted(tournamentId, 2));
+
+            // Then
+            awaitCount(first.sent::get, 2);
+            awaitCount(second.sent::get, 2);
+            assertThat(first.sent.get()).isEqualTo(2);
+            assertThat(second.sent.get()).isEqualTo(2);
+            assertThat(other.sent.get()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber whose buffer overflows and ignore it afterwards")
+    void shouldDropSlowSubscriberOnceItsBufferOverflows() throws InterruptedException {
+        // Given
+        try (var hub = new TournamentEventHub(new ObjectMapper())) {
+            TournamentId tournamentId = TournamentId.generate();
+            var slow = new RecordingEmitter();
+            slow.release = new CountDownLatch(1);
+            hub.subscribe(tournamentId, slow);
+            hub.publish(new TournamentEvent.TournamentStarted(tournamentId, 0));
+            assertThat(slow.sending.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            for (int version = 1; version <= TournamentEventHub.SUBSCRIBER_BUFFER + 10; version++) {
+                hub.publish(new TournamentEvent.TournamentStarted(tournamentId, version));
+            }
+            slow.release.countDown();
+            hub.publish(new TournamentEvent.TournamentStarted(tournamentId, TournamentEventHub.SUBSCRIBER_BUFFER + 11));
+
+            // Then
+            awaitCount(slow.sent::get, 1);
+            assertThat(slow.completions.get()).isEqualTo(1);
+            assertThat(slow.sent.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop sending to subscribers whose stream completed or failed")
+    void shouldUnsubscribeOnCompletionOrError() throws InterruptedException {
+        // Given
+        try (var hub = new TournamentEventHub(new ObjectMapper())) {
+            TournamentId tournamentId = TournamentId.generate();
+            var completed = new RecordingEmitter();
+            var failed = new RecordingEmitter();
+            var open = new RecordingEmitter();
+            hub.subscribe(tournamentId, completed);
+            hub.subscribe(tournamentId, failed);
+            hub.subscribe(tournamentId, open);
+
+            // When
+            completed.completionCallback.run();
+            failed.errorCallback.accept(new IOException("Broken pipe"));
+            hub.publish(new TournamentEvent.TournamentStarted(tournamentId, 1));
+
+            // Then
+            awaitCount(open.sent::get, 1);
+            assertThat(open.sent.get()).isEqualTo(1);
+            assertThat(completed.sent.get()).isZero();
+            assertThat(failed.sent.get()).isZero();
+        }
+    }
+
+    private static void awaitCount(IntSupplier count, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (count.getAsInt() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final AtomicInteger sent = new AtomicInteger();
+        private final AtomicInteger completions = new AtomicInteger();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private volatile CountDownLatch release;
+        private volatile Runnable completionCallback;
+        private volatile Consumer<Throwable> errorCallback;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public void complete() {
+            completions.incrementAndGet();
+        }
+
+        @Override
+        public void completeWithError(Throwable error) {
+            completions.incrementAndGet();
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completionCallback = callback;
+        }
+
+        @Override
+        public void onError(Consumer<Throwable> callback) {
+            errorCallback = callback;
+        }
+    }
+}
@@ -104,11 +104,12 @@ export const CreateTournamentForm: React.FC = () => {
               Tournament Type:
               <select
                 value={formData.type}
-                onChange={(e) => setFormData({ ...formData, type: e.target.value as 'ROUND_ROBIN' | 'SINGLE_ELIMINATION' })}
+                onChange={(e) => setFormData({ ...formData, type: e.target.value as 'ROUND_ROBIN' | 'SINGLE_ELIMINATION' | 'SWISS' })}
                 className="form-input"
               >
                 <option value="ROUND_ROBIN">Round Robin</option>
                 <option value="SINGLE_ELIMINATION">Single Elimination</option>
+                <option value="SWISS">Swiss System</option>
               </select>
             </label>
           </div>
@@ -128,7 +128,7 @@ export const TournamentPage: React.FC = () => {
           borderRadius: '4px',
           fontSize: '14px'
         }}>
-          {tournament.type === 'ROUND_ROBIN' ? 'Round Robin' : 'Single Elimination'} • {tournament.status}
+          {tournament.type === 'ROUND_ROBIN' ? 'Round Robin' : tournament.type === 'SWISS' ? 'Swiss System' : 'Single Elimination'} • {tournament.status}
         </span>
       </div>
 
@@ -284,7 +284,7 @@ export const TournamentPage: React.FC = () => {
           {tournamentStarted && pairings.length > 0 && (
             <div>
               <h2 style={{ marginBottom: '15px' }}>
-                {tournament.type === 'ROUND_ROBIN' ? 'Round 1 Pairings' : 'First Round Bracket'}
+                {tournament.type === 'SINGLE_ELIMINATION' ? 'First Round Bracket' : 'Round 1 Pairings'}
               </h2>
 
               <div style={{ display: 'grid', gap: '15px' }}>
@@ -3,7 +3,7 @@ import { apiService, TournamentPlayer, Pairing } from '../services/api';
 
 interface Props {
   tournamentId: string;
-  tournamentType: 'ROUND_ROBIN' | 'SINGLE_ELIMINATION';
+  tournamentType: 'ROUND_ROBIN' | 'SINGLE_ELIMINATION' | 'SWISS';
 }
 
 export const TournamentView: React.FC<Props> = ({ tournamentId, tournamentType }) => {
@@ -44,7 +44,7 @@ export const TournamentView: React.FC<Props> = ({ tournamentId, tournamentType }
   return (
     <div style={{ maxWidth: '600px', margin: '0 auto', padding: '20px' }}>
       <h2>Tournament: {tournamentId}</h2>
-      <p>Type: {tournamentType === 'ROUND_ROBIN' ? 'Round Robin' : 'Single Elimination'}</p>
+      <p>Type: {tournamentType === 'ROUND_ROBIN' ? 'Round Robin' : tournamentType === 'SWISS' ? 'Swiss System' : 'Single Elimination'}</p>
 
       {error && (
         <div style={{ color: 'red', marginBottom: '10px' }}>
@@ -92,7 +92,7 @@ export const TournamentView: React.FC<Props> = ({ tournamentId, tournamentType }
 
       {tournamentStarted && pairings.length > 0 && (
         <div>
-          <h3>{tournamentType === 'ROUND_ROBIN' ? 'Round 1 Pairings' : 'First Round Bracket'}</h3>
+          <h3>{tournamentType === 'SINGLE_ELIMINATION' ? 'First Round Bracket' : 'Round 1 Pairings'}</h3>
           <div style={{ display: 'grid', gap: '10px' }}>
             {pairings.map((pairing, index) => (
               <div key={index} style={{
@@ -4,15 +4,16 @@ export interface TournamentDetails {
   id: string;
   name: string;
   description: string;
-  type: 'ROUND_ROBIN' | 'SINGLE_ELIMINATION';
+  type: 'ROUND_ROBIN' | 'SINGLE_ELIMINATION' | 'SWISS';
   status: 'PLANNED' | 'IN_PROGRESS' | 'COMPLETED' | 'CANCELLED';
+  startDate: string;
 }
 
 export interface CreateTournamentRequest {
   name: string;
   description: string;
   startDate: string;
-  type: 'ROUND_ROBIN' | 'SINGLE_ELIMINATION';
+  type: 'ROUND_ROBIN' | 'SINGLE_ELIMINATION' | 'SWISS';
 }
 
 export interface TournamentPlayer {